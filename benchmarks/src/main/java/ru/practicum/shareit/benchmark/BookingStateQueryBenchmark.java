@@ -0,0 +1,149 @@
+package ru.practicum.shareit.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former per-state derived queries for owner bookings (built through the Criteria API on every call,
+ * as Spring Data does for derived methods) with the per-state JPQL of {@link BookingRepository#findOwnerPage},
+ * built once per state, on an in-memory H2 database. Query plan cache statistics are printed on tear down.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx1g")
+public class BookingStateQueryBenchmark {
+    private static final LocalDateTime OPEN_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Param({"20"})
+    private int pageSize;
+
+    @Param({"2000"})
+    private int bookings;
+
+    private ConfigurableApplicationContext context;
+    private BookingRepository bookingRepository;
+    private EntityManager entityManager;
+    private Statistics statistics;
+    private BookingState[] states;
+    private Long ownerId;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.url=jdbc:h2:mem:booking-state;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true",
+                        "--shareit.search.engine=jpa",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.orm.jpa=WARN",
+                        "--logging.level.org.springframework.transaction=WARN",
+                        "--logging.level.org.springframework.transaction.interceptor=WARN",
+                        "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN");
+        bookingRepository = context.getBean(BookingRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        User owner = context.getBean(UserRepository.class).save(new User(null, "Владелец", "owner@email.com"));
+        User booker = context.getBean(UserRepository.class).save(new User(null, "Арендатор", "booker@email.com"));
+        Item item = context.getBean(ItemRepository.class)
+                .save(new Item(null, "Вещь", "Описание вещи", true, owner, null));
+        BookingStatus[] statuses = BookingStatus.values();
+        List<Booking> rows = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            LocalDateTime start = Fixtures.NOW.plusHours(i - bookings / 2L);
+            rows.add(new Booking(null, start, start.plusHours(2), item, booker, statuses[i % statuses.length]));
+        }
+        bookingRepository.saveAll(rows);
+        ownerId = owner.getId();
+
+        states = BookingState.values();
+        statistics.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%nquery plan cache: hits=%d, misses=%d, distinct queries=%d%n",
+                statistics.getQueryPlanCacheHitCount(), statistics.getQueryPlanCacheMissCount(),
+                statistics.getQueries().length);
+        context.close();
+    }
+
+    @Benchmark
+    public List<Booking> derivedQuery() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Booking> criteria = cb.createQuery(Booking.class);
+        Root<Booking> booking = criteria.from(Booking.class);
+        Join<Booking, Item> item = booking.join("item");
+        booking.fetch("booker");
+        Predicate owner = cb.equal(item.get("owner").get("id"), ownerId);
+        Predicate state = switch (nextState()) {
+            case ALL -> cb.conjunction();
+            case CURRENT -> cb.and(cb.lessThan(booking.get("start"), Fixtures.NOW),
+                    cb.greaterThan(booking.get("end"), Fixtures.NOW));
+            case PAST -> cb.lessThan(booking.get("end"), Fixtures.NOW);
+            case FUTURE -> cb.greaterThan(booking.get("start"), Fixtures.NOW);
+            case WAITING -> cb.equal(booking.get("status"), BookingStatus.WAITING);
+            case REJECTED -> cb.equal(booking.get("status"), BookingStatus.REJECTED);
+        };
+        criteria.where(owner, state).orderBy(cb.desc(booking.get("start")), cb.desc(booking.get("id")));
+        return entityManager.createQuery(criteria).setMaxResults(pageSize).getResultList();
+    }
+
+    @Benchmark
+    public List<BookingView> singleStateQuery() {
+        return bookingRepository.findOwnerPage(ownerId, nextState(), Fixtures.NOW, OPEN_START,
+                Long.MAX_VALUE, Limit.of(pageSize));
+    }
+
+    private BookingState nextState() {
+        BookingState state = states[next];
+        next = (next + 1) % states.length;
+        return state;
+    }
+}
@@ -0,0 +1,135 @@
+package ru.practicum.shareit.benchmark;
+
+import ru.practicum.shareit.booking.dto.NearestBookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.comment.model.Comment;
+import ru.practicum.shareit.item.dto.OwnerItemView;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.OwnerItemSummary;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class Fixtures {
+    static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+    static final User OWNER = new User(1L, "Владелец", "owner@email.com");
+
+    private Fixtures() {
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (long i = 0; i < count; i++) {
+            users.add(new User(i + 2, "Пользователь " + i, "user" + i + "@email.com"));
+        }
+        return users;
+    }
+
+    static List<Item> items(int count) {
+        List<Item> items = new ArrayList<>(count);
+        for (long i = 0; i < count; i++) {
+            items.add(new Item(i + 1, "Вещь " + i, "Подробное описание вещи номер " + i, i % 5 != 0, OWNER,
+                    i % 3 == 0 ? i / 3 + 1 : null));
+        }
+        return items;
+    }
+
+    static List<Booking> bookings(List<Item> items, List<User> bookers, int perItem) {
+        List<Booking> bookings = new ArrayList<>(items.size() * perItem);
+        long id = 1;
+        for (Item item : items) {
+            for (int i = 0; i < perItem; i++) {
+                LocalDateTime start = NOW.plusDays(i * 2L - perItem);
+                bookings.add(new Booking(id, start, start.plusDays(1), item,
+                        bookers.get((int) (id % bookers.size())), BookingStatus.APPROVED));
+                id++;
+            }
+        }
+        return bookings;
+    }
+
+    static List<NearestBookingView> nearestBookings(List<Item> items) {
+        List<NearestBookingView> views = new ArrayList<>(items.size() * 2);
+        long id = 1;
+        for (Item item : items) {
+            views.add(new View(item.getId(), id++, 2L, NearestBookingView.LAST, NOW.minusDays(1)));
+            views.add(new View(item.getId(), id++, 3L, NearestBookingView.NEXT, NOW.plusDays(1)));
+        }
+        return views;
+    }
+
+    static List<OwnerItemView> ownerItems(List<Item> items, int commentsPerItem) {
+        List<OwnerItemView> views = new ArrayList<>(items.size());
+        for (Item item : items) {
+            views.add(new OwnerView(item, new OwnerItemSummary(item.getId(), commentsPerItem, 1)));
+        }
+        return views;
+    }
+
+    static List<Comment> comments(List<Item> items, List<User> authors, int perItem) {
+        List<Comment> comments = new ArrayList<>(items.size() * perItem);
+        long id = 1;
+        for (Item item : items) {
+            for (int i = 0; i < perItem; i++) {
+                comments.add(new Comment(id, "Отзыв номер " + id + " о вещи " + item.getName(), item,
+                        authors.get((int) (id % authors.size())), NOW.minusHours(id)));
+                id++;
+            }
+        }
+        return comments;
+    }
+
+    static List<ItemRequest> requests(int count, User requestor) {
+        List<ItemRequest> requests = new ArrayList<>(count);
+        for (long i = 0; i < count; i++) {
+            requests.add(new ItemRequest(i + 1, "Нужна вещь номер " + i, requestor, NOW.minusDays(i)));
+        }
+        return requests;
+    }
+
+    private record View(Long itemId, Long id, Long bookerId, String kind, LocalDateTime start)
+            implements NearestBookingView {
+
+        @Override
+        public Long getItemId() {
+            return itemId;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getBookerId() {
+            return bookerId;
+        }
+
+        @Override
+        public String getKind() {
+            return kind;
+        }
+
+        @Override
+        public LocalDateTime getStart() {
+            return start;
+        }
+    }
+
+    private record OwnerView(Item item, OwnerItemSummary summary) implements OwnerItemView {
+
+        @Override
+        public Item getItem() {
+            return item;
+        }
+
+        @Override
+        public OwnerItemSummary getSummary() {
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Item insert rate on an in-memory H2 database, reported as rows per second. {@code perRowInsert} flushes after
+ * every persist, so each row is its own statement and round trip as it was with IDENTITY ids;
+ * {@code batchedInsert} flushes once and lets the pooled sequence and JDBC batching group the inserts.
+ * Every invocation is rolled back, so the table does not grow between iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx1g")
+public class ItemInsertBenchmark {
+    private static final int ROWS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private User owner;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.url=jdbc:h2:mem:item-insert;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--shareit.search.engine=jpa",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.orm.jpa=WARN",
+                        "--logging.level.org.springframework.transaction=WARN",
+                        "--logging.level.org.springframework.transaction.interceptor=WARN",
+                        "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN");
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        owner = context.getBean(UserRepository.class).save(new User(null, "Владелец", "owner@email.com"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void perRowInsert() {
+        insert(true);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void batchedInsert() {
+        insert(false);
+    }
+
+    private void insert(boolean flushEachRow) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(new Item(null, "Вещь " + i, "Описание вещи " + i, true, owner, null));
+                if (flushEachRow) {
+                    entityManager.flush();
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+            status.setRollbackOnly();
+        });
+    }
+}
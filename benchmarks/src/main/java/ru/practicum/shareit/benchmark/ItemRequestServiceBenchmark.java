@@ -0,0 +1,58 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.service.ItemRequestServiceIml;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx1g")
+public class ItemRequestServiceBenchmark {
+
+    @Param({"10", "200"})
+    private int requestCount;
+
+    private ItemRequestServiceIml itemRequestService;
+    private User requestor;
+
+    @Setup
+    public void setUp() {
+        requestor = Fixtures.users(1).get(0);
+
+        UserRepository userRepository = RepositoryStub.of(UserRepository.class, Map.of("existsById", true));
+        itemRequestService = new ItemRequestServiceIml(
+                RepositoryStub.of(ItemRequestRepository.class,
+                        Map.of("findByRequestorIdOrderByCreatedDesc", Fixtures.requests(requestCount, requestor))),
+                userRepository,
+                new UserExistenceChecker(userRepository, 1000, Duration.ofMinutes(1)),
+                RepositoryStub.of(ItemRepository.class, Map.of("findByRequestIdIn", Fixtures.items(requestCount * 3))));
+    }
+
+    @Benchmark
+    public List<ItemRequestDto> getAllRequestsByRequestor() {
+        return itemRequestService.getAllRequestsByRequestor(requestor.getId());
+    }
+}
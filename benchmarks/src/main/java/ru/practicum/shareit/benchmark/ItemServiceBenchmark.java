@@ -0,0 +1,82 @@
+package ru.practicum.shareit.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.comment.repository.CommentRepository;
+import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.repository.OwnerItemSummaryRepository;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+import ru.practicum.shareit.item.service.ItemDetailCache;
+import ru.practicum.shareit.item.service.ItemServiceIml;
+import ru.practicum.shareit.item.service.NearestBookingCache;
+import ru.practicum.shareit.item.service.OwnerItemReadModel;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx1g")
+public class ItemServiceBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    @Param({"5"})
+    private int commentsPerItem;
+
+    private ItemServiceIml itemService;
+
+    @Setup
+    public void setUp() {
+        List<User> users = Fixtures.users(50);
+        List<Item> items = Fixtures.items(pageSize);
+
+        UserRepository userRepository = RepositoryStub.of(UserRepository.class, Map.of("existsById", true));
+        BookingRepository bookingRepository = RepositoryStub.of(BookingRepository.class,
+                Map.of("findLastAndNextBookingsForItems", Fixtures.nearestBookings(items)));
+        NearestBookingCache nearestBookingCache = new NearestBookingCache(0);
+        itemService = new ItemServiceIml(
+                RepositoryStub.of(ItemRepository.class, Map.of()),
+                userRepository,
+                new UserExistenceChecker(userRepository, 1000, Duration.ofMinutes(1)),
+                bookingRepository,
+                RepositoryStub.of(CommentRepository.class,
+                        Map.of("findByItemIdInOrderByCreatedDesc", Fixtures.comments(items, users, commentsPerItem))),
+                RepositoryStub.of(ItemSearchEngine.class, Map.of()),
+                new ItemDetailCache(1, Duration.ofMinutes(1)),
+                nearestBookingCache,
+                new OwnerItemReadModel(
+                        RepositoryStub.of(OwnerItemSummaryRepository.class,
+                                Map.of("findOwnerItems", Fixtures.ownerItems(items, commentsPerItem))),
+                        bookingRepository,
+                        nearestBookingCache,
+                        RepositoryStub.of(EntityManager.class, Map.of())));
+    }
+
+    @Benchmark
+    public List<ItemWithBookingsDto> getAllItemsByOwner() {
+        return itemService.getAllItemsByOwner(Fixtures.OWNER.getId(), null, 0, pageSize);
+    }
+}
@@ -0,0 +1,69 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.comment.mapper.CommentMapper;
+import ru.practicum.shareit.comment.model.Comment;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx1g")
+public class MapperBenchmark {
+
+    @Param({"20", "1000"})
+    private int size;
+
+    private List<Item> items;
+    private List<Booking> bookings;
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        List<User> users = Fixtures.users(50);
+        items = Fixtures.items(size);
+        bookings = Fixtures.bookings(items, users, 1);
+        comments = Fixtures.comments(items, users, 1);
+    }
+
+    @Benchmark
+    public void bookingResponseDto(Blackhole blackhole) {
+        for (Booking booking : bookings) {
+            blackhole.consume(BookingMapper.toBookingResponseDto(booking));
+        }
+    }
+
+    @Benchmark
+    public void itemWithBookingsDto(Blackhole blackhole) {
+        for (Item item : items) {
+            blackhole.consume(ItemMapper.toItemWithBookingsDto(item));
+        }
+    }
+
+    @Benchmark
+    public void commentDto(Blackhole blackhole) {
+        for (Comment comment : comments) {
+            blackhole.consume(CommentMapper.toCommentDto(comment));
+        }
+    }
+}
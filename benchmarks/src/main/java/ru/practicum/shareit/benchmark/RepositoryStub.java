@@ -0,0 +1,28 @@
+package ru.practicum.shareit.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+final class RepositoryStub {
+
+    private RepositoryStub() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T of(Class<T> repositoryType, Map<String, Object> results) {
+        return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            case "equals" -> proxy == args[0];
+                            default -> repositoryType.getSimpleName() + "Stub";
+                        };
+                    }
+                    if (!results.containsKey(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return results.get(method.getName());
+                });
+    }
+}
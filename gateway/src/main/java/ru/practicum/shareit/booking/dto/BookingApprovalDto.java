@@ -0,0 +1,22 @@
+package ru.practicum.shareit.booking.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingApprovalDto {
+    @NotEmpty(message = "Список бронирований не может быть пустым")
+    @Size(max = 100, message = "За один запрос можно обработать не более 100 бронирований")
+    private List<@NotNull(message = "ID бронирования не может быть null") Long> bookingIds;
+
+    @NotNull(message = "Решение по бронированиям не может быть null")
+    private Boolean approved;
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.booking.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingImportDto {
+    @NotNull(message = "Дата начала бронирования не может быть null")
+    private LocalDateTime start;
+
+    @NotNull(message = "Дата окончания бронирования не может быть null")
+    private LocalDateTime end;
+
+    @NotNull(message = "ID вещи не может быть null")
+    private Long itemId;
+
+    @NotNull(message = "ID арендатора не может быть null")
+    private Long bookerId;
+
+    @Pattern(regexp = "WAITING|APPROVED|REJECTED|CANCELED", message = "Неизвестный статус бронирования")
+    private String status;
+}
@@ -1,14 +1,25 @@
 package ru.practicum.shareit.client;
 
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.net.URI;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 public class BaseClient {
+    private static final Set<String> NOT_FORWARDED_HEADERS = Set.of(
+            "connection", "keep-alive", "transfer-encoding", "content-length", "date", "server");
+
     protected final RestTemplate rest;
 
     public BaseClient(RestTemplate rest) {
@@ -75,23 +86,53 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
+    protected ResponseEntity<StreamingResponseBody> stream(String path, @Nullable Long userId) {
+        URI uri = rest.getUriTemplateHandler().expand(path);
+        ClientHttpResponse response;
+        try {
+            ClientHttpRequest request = rest.getRequestFactory().createRequest(uri, HttpMethod.GET);
+            request.getHeaders().setAccept(List.of(MediaType.ALL));
+            if (userId != null) {
+                request.getHeaders().set("X-Sharer-User-Id", String.valueOf(userId));
+            }
+            response = request.execute();
+        } catch (IOException e) {
+            throw new ResourceAccessException("Сервер недоступен: " + e.getMessage(), e);
+        }
+
+        StreamingResponseBody body = out -> {
+            try (response) {
+                response.getBody().transferTo(out);
+            }
+        };
+        try {
+            return ResponseEntity.status(response.getStatusCode())
+                    .headers(forwardedHeaders(response.getHeaders()))
+                    .body(body);
+        } catch (IOException e) {
+            response.close();
+            throw new ResourceAccessException("Сервер недоступен: " + e.getMessage(), e);
+        }
+    }
+
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path,
                                                           @Nullable Long userId,
                                                           @Nullable Map<String, Object> parameters,
                                                           @Nullable T body) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
 
-        ResponseEntity<Object> shareitServerResponse;
+        ResponseEntity<byte[]> shareitServerResponse;
         try {
             if (parameters != null && !parameters.isEmpty()) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
             } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
             }
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return passThrough(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
         }
-        return prepareGatewayResponse(shareitServerResponse);
+        return passThrough(shareitServerResponse.getStatusCode(), shareitServerResponse.getHeaders(),
+                shareitServerResponse.getBody());
     }
 
     private HttpHeaders defaultHeaders(@Nullable Long userId) {
@@ -104,17 +145,27 @@ public class BaseClient {
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
-        }
-
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+    private static ResponseEntity<Object> passThrough(HttpStatusCode status, @Nullable HttpHeaders serverHeaders,
+                                                      @Nullable byte[] body) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(status)
+                .headers(forwardedHeaders(serverHeaders));
 
-        if (response.hasBody()) {
-            return responseBuilder.body(response.getBody());
+        if (body != null && body.length > 0) {
+            return responseBuilder.body(body);
         }
 
         return responseBuilder.build();
     }
-}
\ No newline at end of file
+
+    private static HttpHeaders forwardedHeaders(@Nullable HttpHeaders serverHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        if (serverHeaders != null) {
+            serverHeaders.forEach((name, values) -> {
+                if (!NOT_FORWARDED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    headers.addAll(name, values);
+                }
+            });
+        }
+        return headers;
+    }
+}
@@ -5,9 +5,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 public class BookingClient extends BaseClient {
@@ -26,11 +30,19 @@ public class BookingClient extends BaseClient {
         return post("", bookerId, bookingDto);
     }
 
+    public ResponseEntity<Object> importBookings(Object bookingDtos, Long ownerId) {
+        return post("/import", ownerId, bookingDtos);
+    }
+
     public ResponseEntity<Object> approveBooking(Long bookingId, Boolean approved, Long ownerId) {
         Map<String, Object> parameters = Map.of("approved", approved);
         return patch("/" + bookingId + "?approved={approved}", ownerId, parameters, null);
     }
 
+    public ResponseEntity<Object> approveBookings(Object approvalDto, Long ownerId) {
+        return patch("/approve", ownerId, approvalDto);
+    }
+
     public ResponseEntity<Object> getBookingById(Long bookingId, Long userId) {
         return get("/" + bookingId, userId);
     }
@@ -44,4 +56,40 @@ public class BookingClient extends BaseClient {
         Map<String, Object> parameters = Map.of("state", state);
         return get("/owner?state={state}", ownerId, parameters);
     }
+
+    public ResponseEntity<StreamingResponseBody> exportBookingsByOwner(Long ownerId) {
+        return stream("/owner/export", ownerId);
+    }
+
+    public ResponseEntity<Object> getAllBookingsByBooker(Long bookerId, String state, LocalDateTime afterStart,
+                                                         Long afterId, Integer size) {
+        Map<String, Object> parameters = keysetParameters(state, afterStart, afterId, size);
+        return get("?" + keysetQuery(parameters), bookerId, parameters);
+    }
+
+    public ResponseEntity<Object> getAllBookingsByOwner(Long ownerId, String state, LocalDateTime afterStart,
+                                                        Long afterId, Integer size) {
+        Map<String, Object> parameters = keysetParameters(state, afterStart, afterId, size);
+        return get("/owner?" + keysetQuery(parameters), ownerId, parameters);
+    }
+
+    private static Map<String, Object> keysetParameters(String state, LocalDateTime afterStart, Long afterId,
+                                                        Integer size) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("state", state);
+        if (afterStart != null) {
+            parameters.put("afterStart", afterStart);
+        }
+        if (afterId != null) {
+            parameters.put("afterId", afterId);
+        }
+        parameters.put("size", size);
+        return parameters;
+    }
+
+    private static String keysetQuery(Map<String, Object> parameters) {
+        return parameters.keySet().stream()
+                .map(name -> name + "={" + name + "}")
+                .collect(Collectors.joining("&"));
+    }
 }
\ No newline at end of file
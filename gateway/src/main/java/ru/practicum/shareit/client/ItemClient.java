@@ -9,6 +9,7 @@ import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -28,6 +29,10 @@ public class ItemClient extends BaseClient {
         return post("", ownerId, itemDto);
     }
 
+    public ResponseEntity<Object> createItems(List<ItemDto> itemDtos, Long ownerId) {
+        return post("/batch", ownerId, itemDtos);
+    }
+
     public ResponseEntity<Object> updateItem(Long itemId, ItemDto itemDto, Long ownerId) {
         return patch("/" + itemId, ownerId, itemDto);
     }
@@ -36,12 +41,18 @@ public class ItemClient extends BaseClient {
         return get("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> getAllItemsByOwner(Long ownerId, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
-                "from", from,
-                "size", size
-        );
-        return get("?from={from}&size={size}", ownerId, parameters);
+    public ResponseEntity<Object> getAllItemsByOwner(Long ownerId, Long afterId, Integer from, Integer size) {
+        if (afterId == null) {
+            return get("?from={from}&size={size}", ownerId, Map.of("from", from, "size", size));
+        }
+        return get("?afterId={afterId}&size={size}", ownerId, Map.of("afterId", afterId, "size", size));
+    }
+
+    public ResponseEntity<Object> getOwnerDashboard(Long ownerId, Long afterId, Integer size) {
+        if (afterId == null) {
+            return get("/dashboard?size={size}", ownerId, Map.of("size", size));
+        }
+        return get("/dashboard?afterId={afterId}&size={size}", ownerId, Map.of("afterId", afterId, "size", size));
     }
 
     public ResponseEntity<Object> searchItems(String text, Integer from, Integer size) {
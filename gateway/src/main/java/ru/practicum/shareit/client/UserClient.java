@@ -5,8 +5,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import java.util.Map;
+
 @Service
 public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
@@ -36,6 +39,17 @@ public class UserClient extends BaseClient {
         return get("");
     }
 
+    public ResponseEntity<Object> getAllUsers(Long afterId, Integer size) {
+        if (afterId == null) {
+            return get("?size={size}", null, Map.of("size", size));
+        }
+        return get("?afterId={afterId}&size={size}", null, Map.of("afterId", afterId, "size", size));
+    }
+
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return stream("/export", null);
+    }
+
     public ResponseEntity<Object> deleteUser(Long userId) {
         return delete("/" + userId);
     }
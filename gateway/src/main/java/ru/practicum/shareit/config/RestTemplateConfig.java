@@ -1,16 +1,62 @@
 package ru.practicum.shareit.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
-import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class RestTemplateConfig {
 
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager serverConnectionManager(HttpClientProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxTotal())
+                .setMaxConnPerRoute(properties.getMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                        .setValidateAfterInactivity(TimeValue.of(properties.getValidateAfterInactivity()))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient serverHttpClient(PoolingHttpClientConnectionManager serverConnectionManager,
+                                                HttpClientProperties properties) {
+        TimeValue keepAlive = TimeValue.of(properties.getKeepAlive());
+        return HttpClients.custom()
+                .setConnectionManager(serverConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleEviction()))
+                .build();
+    }
+
+    @Bean
+    public RestTemplateCustomizer pooledRequestFactoryCustomizer(CloseableHttpClient serverHttpClient) {
+        return restTemplate -> restTemplate.setRequestFactory(
+                new HttpComponentsClientHttpRequestFactory(serverHttpClient));
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(HttpClients.createDefault()));
+    public MeterBinder serverConnectionPoolMetrics(PoolingHttpClientConnectionManager serverConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(serverConnectionManager, "shareit-server");
     }
 }
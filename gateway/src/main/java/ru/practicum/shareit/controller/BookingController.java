@@ -1,12 +1,22 @@
 package ru.practicum.shareit.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.client.BookingClient;
+import ru.practicum.shareit.booking.dto.BookingApprovalDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingImportDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping(path = "/bookings")
@@ -21,6 +31,15 @@ public class BookingController {
         return bookingClient.createBooking(bookingDto, bookerId);
     }
 
+    @PostMapping("/import")
+    public ResponseEntity<Object> importBookings(
+            @RequestBody @NotEmpty(message = "Список бронирований не может быть пустым")
+            @Size(max = 1000, message = "За один запрос можно импортировать не более 1000 бронирований")
+            List<@Valid BookingImportDto> bookingDtos,
+            @RequestHeader("X-Sharer-User-Id") Long ownerId) {
+        return bookingClient.importBookings(bookingDtos, ownerId);
+    }
+
     @PatchMapping("/{bookingId}")
     public ResponseEntity<Object> approveBooking(@PathVariable Long bookingId,
                                                  @RequestParam boolean approved,
@@ -28,6 +47,12 @@ public class BookingController {
         return bookingClient.approveBooking(bookingId, approved, ownerId);
     }
 
+    @PatchMapping("/approve")
+    public ResponseEntity<Object> approveBookings(@Valid @RequestBody BookingApprovalDto approvalDto,
+                                                  @RequestHeader("X-Sharer-User-Id") Long ownerId) {
+        return bookingClient.approveBookings(approvalDto, ownerId);
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> getBookingById(@PathVariable Long bookingId,
                                                  @RequestHeader("X-Sharer-User-Id") Long userId) {
@@ -35,14 +60,34 @@ public class BookingController {
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllBookingsByBooker(@RequestHeader("X-Sharer-User-Id") Long bookerId,
-                                                         @RequestParam(defaultValue = "ALL") String state) {
-        return bookingClient.getAllBookingsByBooker(bookerId, state);
+    public ResponseEntity<Object> getAllBookingsByBooker(
+            @RequestHeader("X-Sharer-User-Id") Long bookerId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterStart,
+            @RequestParam(required = false) Long afterId,
+            @Positive @RequestParam(required = false) Integer size) {
+        if (size == null) {
+            return bookingClient.getAllBookingsByBooker(bookerId, state);
+        }
+        return bookingClient.getAllBookingsByBooker(bookerId, state, afterStart, afterId, size);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getAllBookingsByOwner(@RequestHeader("X-Sharer-User-Id") Long ownerId,
-                                                        @RequestParam(defaultValue = "ALL") String state) {
-        return bookingClient.getAllBookingsByOwner(ownerId, state);
+    public ResponseEntity<Object> getAllBookingsByOwner(
+            @RequestHeader("X-Sharer-User-Id") Long ownerId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterStart,
+            @RequestParam(required = false) Long afterId,
+            @Positive @RequestParam(required = false) Integer size) {
+        if (size == null) {
+            return bookingClient.getAllBookingsByOwner(ownerId, state);
+        }
+        return bookingClient.getAllBookingsByOwner(ownerId, state, afterStart, afterId, size);
+    }
+
+    @GetMapping("/owner/export")
+    public ResponseEntity<StreamingResponseBody> exportBookingsByOwner(
+            @RequestHeader("X-Sharer-User-Id") Long ownerId) {
+        return bookingClient.exportBookingsByOwner(ownerId);
     }
 }
@@ -1,8 +1,10 @@
 package ru.practicum.shareit.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -11,6 +13,8 @@ import ru.practicum.shareit.client.ItemClient;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/items")
 @RequiredArgsConstructor
@@ -24,6 +28,15 @@ public class ItemController {
         return itemClient.createItem(itemDto, ownerId);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<Object> createItems(
+            @RequestBody @NotEmpty(message = "Список вещей не может быть пустым")
+            @Size(max = 1000, message = "За один запрос можно создать не более 1000 вещей")
+            List<@Valid ItemDto> itemDtos,
+            @RequestHeader("X-Sharer-User-Id") Long ownerId) {
+        return itemClient.createItems(itemDtos, ownerId);
+    }
+
     @PatchMapping("/{itemId}")
     public ResponseEntity<Object> updateItem(@PathVariable Long itemId,
                                              @RequestBody ItemDto itemDto,
@@ -40,9 +53,18 @@ public class ItemController {
     @GetMapping
     public ResponseEntity<Object> getAllItemsByOwner(
             @RequestHeader("X-Sharer-User-Id") Long ownerId,
+            @RequestParam(required = false) Long afterId,
             @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
             @Positive @RequestParam(defaultValue = "10") Integer size) {
-        return itemClient.getAllItemsByOwner(ownerId, from, size);
+        return itemClient.getAllItemsByOwner(ownerId, afterId, from, size);
+    }
+
+    @GetMapping("/dashboard")
+    public ResponseEntity<Object> getOwnerDashboard(
+            @RequestHeader("X-Sharer-User-Id") Long ownerId,
+            @RequestParam(required = false) Long afterId,
+            @Positive @RequestParam(defaultValue = "10") Integer size) {
+        return itemClient.getOwnerDashboard(ownerId, afterId, size);
     }
 
     @GetMapping("/search")
@@ -1,10 +1,13 @@
 package ru.practicum.shareit.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.client.UserClient;
 import ru.practicum.shareit.user.dto.UserDto;
 
@@ -32,8 +35,17 @@ public class UserController {
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllUsers() {
-        return userClient.getAllUsers();
+    public ResponseEntity<Object> getAllUsers(@RequestParam(required = false) Long afterId,
+                                              @Positive @Max(1000) @RequestParam(required = false) Integer size) {
+        if (size == null) {
+            return userClient.getAllUsers();
+        }
+        return userClient.getAllUsers(afterId, size);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return userClient.exportUsers();
     }
 
     @DeleteMapping("/{userId}")
@@ -16,50 +16,50 @@ class BaseClientTest {
 
     @Test
     void get_WithoutParameters_ShouldCallMakeAndSendRequest() {
-        ResponseEntity<Object> responseEntity = ResponseEntity.ok().build();
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(Object.class)))
+        ResponseEntity<byte[]> responseEntity = ResponseEntity.ok().build();
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(byte[].class)))
                 .thenReturn(responseEntity);
 
         ResponseEntity<Object> result = baseClient.get("/test");
 
         assertNotNull(result);
-        verify(restTemplate).exchange(eq("/test"), eq(HttpMethod.GET), any(), eq(Object.class));
+        verify(restTemplate).exchange(eq("/test"), eq(HttpMethod.GET), any(), eq(byte[].class));
     }
 
     @Test
     void post_WithBody_ShouldCallMakeAndSendRequest() {
-        ResponseEntity<Object> responseEntity = ResponseEntity.ok().build();
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(Object.class)))
+        ResponseEntity<byte[]> responseEntity = ResponseEntity.ok().build();
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(byte[].class)))
                 .thenReturn(responseEntity);
 
         ResponseEntity<Object> result = baseClient.post("/test", "body");
 
         assertNotNull(result);
-        verify(restTemplate).exchange(eq("/test"), eq(HttpMethod.POST), any(), eq(Object.class));
+        verify(restTemplate).exchange(eq("/test"), eq(HttpMethod.POST), any(), eq(byte[].class));
     }
 
     @Test
     void patch_WithUserIdAndBody_ShouldCallMakeAndSendRequest() {
-        ResponseEntity<Object> responseEntity = ResponseEntity.ok().build();
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.PATCH), any(), eq(Object.class)))
+        ResponseEntity<byte[]> responseEntity = ResponseEntity.ok().build();
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.PATCH), any(), eq(byte[].class)))
                 .thenReturn(responseEntity);
 
         ResponseEntity<Object> result = baseClient.patch("/test", 1L, "body");
 
         assertNotNull(result);
-        verify(restTemplate).exchange(eq("/test"), eq(HttpMethod.PATCH), any(), eq(Object.class));
+        verify(restTemplate).exchange(eq("/test"), eq(HttpMethod.PATCH), any(), eq(byte[].class));
     }
 
     @Test
     void delete_WithUserId_ShouldCallMakeAndSendRequest() {
-        ResponseEntity<Object> responseEntity = ResponseEntity.noContent().build();
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.DELETE), any(), eq(Object.class)))
+        ResponseEntity<byte[]> responseEntity = ResponseEntity.noContent().build();
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.DELETE), any(), eq(byte[].class)))
                 .thenReturn(responseEntity);
 
         ResponseEntity<Object> result = baseClient.delete("/test", 1L);
 
         assertNotNull(result);
-        verify(restTemplate).exchange(eq("/test"), eq(HttpMethod.DELETE), any(), eq(Object.class));
+        verify(restTemplate).exchange(eq("/test"), eq(HttpMethod.DELETE), any(), eq(byte[].class));
     }
 
     @Test
@@ -68,7 +68,7 @@ class BaseClientTest {
         when(exception.getStatusCode()).thenReturn(HttpStatus.BAD_REQUEST);
         when(exception.getResponseBodyAsByteArray()).thenReturn(new byte[0]);
 
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(Object.class)))
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(byte[].class)))
                 .thenThrow(exception);
 
         ResponseEntity<Object> result = baseClient.get("/test");
@@ -76,4 +76,39 @@ class BaseClientTest {
         assertNotNull(result);
         assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
     }
+
+    @Test
+    void get_ShouldPassServerBodyAndHeadersThrough() {
+        byte[] body = "[{\"id\":1}]".getBytes();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        headers.set("X-Total-Count", "1");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(byte[].class)))
+                .thenReturn(new ResponseEntity<>(body, headers, HttpStatus.OK));
+
+        ResponseEntity<Object> result = baseClient.get("/test");
+
+        assertSame(body, result.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+        assertEquals("1", result.getHeaders().getFirst("X-Total-Count"));
+        assertFalse(result.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+    }
+
+    @Test
+    void makeAndSendRequest_WithHttpException_ShouldKeepErrorContentType() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = "{\"error\":\"Вещь не найдена\"}".getBytes();
+        HttpClientErrorException exception = HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found",
+                headers, body, null);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(byte[].class)))
+                .thenThrow(exception);
+
+        ResponseEntity<Object> result = baseClient.get("/test");
+
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+        assertArrayEquals(body, (byte[]) result.getBody());
+    }
 }
@@ -4,14 +4,25 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.dto.BookingApprovalDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingImportDto;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 @RestClientTest(BookingClient.class)
@@ -55,6 +66,35 @@ class BookingClientTest {
         server.verify();
     }
 
+    @Test
+    void importBookings_ShouldCallPost() {
+        server.expect(requestTo("http://localhost:9090/bookings/import"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andRespond(withSuccess("[]", org.springframework.http.MediaType.APPLICATION_JSON));
+
+        ResponseEntity<Object> response = bookingClient.importBookings(List.of(new BookingImportDto(
+                LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1), 1L, 2L, "APPROVED")), 1L);
+
+        assertNotNull(response);
+        server.verify();
+    }
+
+    @Test
+    void approveBookings_ShouldCallPatchWithBody() {
+        server.expect(requestTo("http://localhost:9090/bookings/approve"))
+                .andExpect(method(HttpMethod.PATCH))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andExpect(content().json("{\"bookingIds\":[1,2],\"approved\":false}"))
+                .andRespond(withSuccess("[]", org.springframework.http.MediaType.APPLICATION_JSON));
+
+        ResponseEntity<Object> response = bookingClient.approveBookings(
+                new BookingApprovalDto(List.of(1L, 2L), false), 1L);
+
+        assertNotNull(response);
+        server.verify();
+    }
+
     @Test
     void getBookingById_ShouldCallGet() {
         server.expect(requestTo("http://localhost:9090/bookings/1"))
@@ -93,4 +133,62 @@ class BookingClientTest {
         assertNotNull(response);
         server.verify();
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllBookingsByOwner_WithKeyset_ShouldPassCursor() {
+        server.expect(requestTo("http://localhost:9090/bookings/owner?state=ALL&afterStart=2030-01-01T12%3A00&afterId=5&size=20"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andRespond(withSuccess("[]", org.springframework.http.MediaType.APPLICATION_JSON));
+
+        ResponseEntity<Object> response = bookingClient.getAllBookingsByOwner(1L, "ALL",
+                LocalDateTime.of(2030, 1, 1, 12, 0), 5L, 20);
+
+        assertNotNull(response);
+        server.verify();
+    }
+
+    @Test
+    void getAllBookingsByBooker_WithFirstPage_ShouldOmitCursor() {
+        server.expect(requestTo("http://localhost:9090/bookings?state=ALL&size=10"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("[]", org.springframework.http.MediaType.APPLICATION_JSON));
+
+        ResponseEntity<Object> response = bookingClient.getAllBookingsByBooker(1L, "ALL", null, null, 10);
+
+        assertNotNull(response);
+        server.verify();
+    }
+
+    @Test
+    void exportBookingsByOwner_ShouldPipeServerBody() throws IOException {
+        String ndjson = "{\"id\":2}\n{\"id\":1}\n";
+        server.expect(requestTo("http://localhost:9090/bookings/owner/export"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andRespond(withSuccess(ndjson, MediaType.parseMediaType("application/x-ndjson")));
+
+        ResponseEntity<StreamingResponseBody> response = bookingClient.exportBookingsByOwner(1L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+        assertEquals(ndjson, out.toString(StandardCharsets.UTF_8));
+        server.verify();
+    }
+
+    @Test
+    void exportBookingsByOwner_WithServerError_ShouldKeepStatus() throws IOException {
+        server.expect(requestTo("http://localhost:9090/bookings/owner/export"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":\"Пользователь не найден\"}"));
+
+        ResponseEntity<StreamingResponseBody> response = bookingClient.exportBookingsByOwner(99L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("{\"error\":\"Пользователь не найден\"}", out.toString(StandardCharsets.UTF_8));
+    }
+}
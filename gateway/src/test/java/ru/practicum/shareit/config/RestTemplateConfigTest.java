@@ -1,17 +1,41 @@
 package ru.practicum.shareit.config;
 
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class RestTemplateConfigTest {
 
+    private final RestTemplateConfig config = new RestTemplateConfig();
+
+    @Test
+    void serverConnectionManager_ShouldApplyPoolLimits() {
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setMaxTotal(50);
+        properties.setMaxPerRoute(20);
+
+        try (PoolingHttpClientConnectionManager manager = config.serverConnectionManager(properties)) {
+            assertEquals(50, manager.getMaxTotal());
+            assertEquals(20, manager.getDefaultMaxPerRoute());
+        }
+    }
+
     @Test
-    void restTemplate_ShouldBeCreated() {
-        RestTemplateConfig config = new RestTemplateConfig();
-        RestTemplate restTemplate = config.restTemplate();
+    void pooledRequestFactoryCustomizer_ShouldUseSharedHttpClient() throws Exception {
+        HttpClientProperties properties = new HttpClientProperties();
+        PoolingHttpClientConnectionManager manager = config.serverConnectionManager(properties);
+
+        try (CloseableHttpClient httpClient = config.serverHttpClient(manager, properties)) {
+            RestTemplate restTemplate = new RestTemplate();
+            config.pooledRequestFactoryCustomizer(httpClient).customize(restTemplate);
 
-        assertNotNull(restTemplate);
+            HttpComponentsClientHttpRequestFactory factory =
+                    assertInstanceOf(HttpComponentsClientHttpRequestFactory.class, restTemplate.getRequestFactory());
+            assertSame(httpClient, factory.getHttpClient());
+        }
     }
-}
\ No newline at end of file
+}
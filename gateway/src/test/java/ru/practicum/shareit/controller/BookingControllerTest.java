@@ -7,15 +7,18 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.client.BookingClient;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(BookingController.class)
 class BookingControllerTest {
@@ -64,6 +67,50 @@ class BookingControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void importBookings_WithPastDates_ShouldCallClient() throws Exception {
+        when(bookingClient.importBookings(any(), anyLong()))
+                .thenReturn(ResponseEntity.ok().build());
+
+        mockMvc.perform(post("/bookings/import")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"start\":\"2024-01-01T10:00:00\",\"end\":\"2024-01-02T10:00:00\"," +
+                                "\"itemId\":1,\"bookerId\":2,\"status\":\"APPROVED\"}]"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void importBookings_WithUnknownStatus_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/bookings/import")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"start\":\"2024-01-01T10:00:00\",\"end\":\"2024-01-02T10:00:00\"," +
+                                "\"itemId\":1,\"bookerId\":2,\"status\":\"LOST\"}]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void approveBookings_ShouldCallClient() throws Exception {
+        when(bookingClient.approveBookings(any(), anyLong()))
+                .thenReturn(ResponseEntity.ok().build());
+
+        mockMvc.perform(patch("/bookings/approve")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bookingIds\":[1,2,3],\"approved\":true}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void approveBookings_WithEmptyIds_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(patch("/bookings/approve")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bookingIds\":[],\"approved\":true}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void approveBooking_ShouldCallClient() throws Exception {
         when(bookingClient.approveBooking(anyLong(), anyBoolean(), anyLong()))
@@ -112,6 +159,27 @@ class BookingControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void getAllBookingsByOwner_WithNonPositiveSize_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getAllBookingsByOwner_WithSize_ShouldCallKeysetClient() throws Exception {
+        when(bookingClient.getAllBookingsByOwner(anyLong(), anyString(), any(), any(), anyInt()))
+                .thenReturn(ResponseEntity.ok().build());
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("afterStart", "2030-01-01T12:00:00")
+                        .param("afterId", "5")
+                        .param("size", "20"))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void getBookingById_shouldCallClient() throws Exception {
         when(bookingClient.getBookingById(anyLong(), anyLong())).thenReturn(null);
@@ -120,4 +188,22 @@ class BookingControllerTest {
                         .header("X-Sharer-User-Id", 1L))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void exportBookingsByOwner_ShouldStreamClientBody() throws Exception {
+        StreamingResponseBody body = out -> out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+        when(bookingClient.exportBookingsByOwner(1L))
+                .thenReturn(ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson"))
+                        .body(body));
+
+        MvcResult result = mockMvc.perform(get("/bookings/owner/export")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
 }
@@ -10,6 +10,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.client.ItemClient;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -45,7 +47,8 @@ class ItemControllerTest {
 
     @Test
     void getAllItemsByOwner_shouldCallClient() throws Exception {
-        when(itemClient.getAllItemsByOwner(anyLong(), anyInt(), anyInt())).thenReturn(ResponseEntity.ok().build());
+        when(itemClient.getAllItemsByOwner(anyLong(), isNull(), anyInt(), anyInt()))
+                .thenReturn(ResponseEntity.ok().build());
 
         mockMvc.perform(get("/items")
                         .header("X-Sharer-User-Id", 1L)
@@ -54,6 +57,35 @@ class ItemControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void getOwnerDashboard_shouldCallClient() throws Exception {
+        when(itemClient.getOwnerDashboard(1L, null, 10)).thenReturn(ResponseEntity.ok().build());
+
+        mockMvc.perform(get("/items/dashboard")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getOwnerDashboard_withAfterId_shouldPassCursorToClient() throws Exception {
+        when(itemClient.getOwnerDashboard(1L, 5L, 10)).thenReturn(ResponseEntity.ok().build());
+
+        mockMvc.perform(get("/items/dashboard")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("afterId", "5"))
+                .andExpect(status().isOk());
+        verify(itemClient).getOwnerDashboard(1L, 5L, 10);
+    }
+
+    @Test
+    void getOwnerDashboard_withZeroSize_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/items/dashboard")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(itemClient);
+    }
+
     @Test
     void createItem_WithValidData_ShouldReturnOk() throws Exception {
         when(itemClient.createItem(any(), anyLong()))
@@ -114,4 +146,26 @@ class ItemControllerTest {
                         .content(invalidItemJson))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createItems_WithValidData_ShouldCallClient() throws Exception {
+        when(itemClient.createItems(anyList(), anyLong())).thenReturn(ResponseEntity.ok().build());
+
+        mockMvc.perform(post("/items/batch")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\":\"Дрель\",\"description\":\"Описание\",\"available\":true}," +
+                                "{\"name\":\"Пила\",\"description\":\"Описание\",\"available\":false}]"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void createItems_WithInvalidItem_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/items/batch")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\":\"\",\"description\":\"Описание\",\"available\":true}]"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(itemClient);
+    }
+}
@@ -4,14 +4,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.client.UserClient;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(UserController.class)
 class UserControllerTest {
@@ -45,4 +50,44 @@ class UserControllerTest {
         mockMvc.perform(delete("/users/1"))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    void getAllUsers_WithSize_ShouldCallKeysetClient() throws Exception {
+        when(userClient.getAllUsers(5L, 20)).thenReturn(ResponseEntity.ok().build());
+
+        mockMvc.perform(get("/users")
+                        .param("afterId", "5")
+                        .param("size", "20"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllUsers_WithNonPositiveSize_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/users")
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getAllUsers_WithTooLargeSize_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/users")
+                        .param("size", "10000000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportUsers_ShouldStreamClientBody() throws Exception {
+        StreamingResponseBody body = out -> out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+        when(userClient.exportUsers())
+                .thenReturn(ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson"))
+                        .body(body));
+
+        MvcResult result = mockMvc.perform(get("/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
 }
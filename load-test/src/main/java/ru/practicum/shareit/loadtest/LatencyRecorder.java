@@ -0,0 +1,76 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class LatencyRecorder {
+    private final Map<String, Samples> samplesByEndpoint = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long nanos, boolean success) {
+        samplesByEndpoint.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, success);
+    }
+
+    public void reset() {
+        samplesByEndpoint.clear();
+    }
+
+    public Map<String, Summary> summarize(Duration elapsed) {
+        Map<String, Summary> summaries = new TreeMap<>();
+        samplesByEndpoint.forEach((endpoint, samples) -> summaries.put(endpoint, samples.summarize(elapsed)));
+        return summaries;
+    }
+
+    public void print(Duration elapsed, PrintStream out) {
+        Map<String, Summary> summaries = summarize(elapsed);
+        out.printf("%-24s %9s %7s %10s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms",
+                "max ms");
+        summaries.forEach((endpoint, summary) -> out.printf("%-24s %9d %7d %10.1f %9.2f %9.2f %9.2f%n", endpoint,
+                summary.requests(), summary.errors(), summary.throughput(), summary.p50Millis(), summary.p99Millis(),
+                summary.maxMillis()));
+        long total = summaries.values().stream().mapToLong(Summary::requests).sum();
+        out.printf("%-24s %9d %7s %10.1f%n", "total", total, "", total / seconds(elapsed));
+    }
+
+    private static double seconds(Duration elapsed) {
+        return Math.max(elapsed.toNanos(), 1) / 1_000_000_000.0;
+    }
+
+    public record Summary(long requests, long errors, double throughput, double p50Millis, double p99Millis,
+                          double maxMillis) {
+    }
+
+    private static final class Samples {
+        private long[] nanos = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long value, boolean success) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized Summary summarize(Duration elapsed) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return new Summary(size, errors, size / seconds(elapsed), percentile(sorted, 0.50),
+                    percentile(sorted, 0.99), size == 0 ? 0 : sorted[size - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public record LoadTestOptions(int users, int itemsPerUser, int bookingsPerItem, int threads, Duration warmup,
+                              Duration duration, int serverPort, int gatewayPort, Path serverJar, Path gatewayJar,
+                              List<String> serverArgs, Path logDirectory) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Ожидается аргумент вида --name=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String serverArgs = values.getOrDefault("server-args", "--spring.profiles.active=test");
+        return new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("users", "100")),
+                Integer.parseInt(values.getOrDefault("items-per-user", "5")),
+                Integer.parseInt(values.getOrDefault("bookings-per-item", "2")),
+                Integer.parseInt(values.getOrDefault("threads", "16")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration-seconds", "60"))),
+                Integer.parseInt(values.getOrDefault("server-port", "19090")),
+                Integer.parseInt(values.getOrDefault("gateway-port", "18080")),
+                Path.of(values.getOrDefault("server-jar", "server/target/shareit-server-0.0.1-SNAPSHOT.jar")),
+                Path.of(values.getOrDefault("gateway-jar", "gateway/target/shareit-gateway-0.0.1-SNAPSHOT.jar")),
+                serverArgs.isBlank() ? List.of() : Arrays.asList(serverArgs.trim().split("\\s+")),
+                Path.of(values.getOrDefault("log-dir", "load-test/target/logs")));
+    }
+}
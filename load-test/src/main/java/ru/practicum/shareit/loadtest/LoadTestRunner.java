@@ -0,0 +1,166 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LoadTestRunner {
+    private static final String[] WORDS = {"дрель", "пила", "молоток", "лестница", "палатка", "велосипед", "отвертка",
+            "шуруповерт"};
+    private static final String[] STATES = {"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"};
+
+    private final LoadTestOptions options;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final ShareItApi api;
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> itemIds = new ArrayList<>();
+    private final Map<Long, Long> ownerByItem = new ConcurrentHashMap<>();
+    private final AtomicLong bookingSlot = new AtomicLong();
+    private final LocalDateTime bookingBase = LocalDateTime.now().plusDays(1).withNano(0);
+
+    public LoadTestRunner(LoadTestOptions options, HttpClient client) {
+        this.options = options;
+        this.api = new ShareItApi(client, "http://localhost:" + options.gatewayPort(), recorder);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        List<String> serverArgs = new ArrayList<>(options.serverArgs());
+        serverArgs.add("--server.port=" + options.serverPort());
+        List<String> gatewayArgs = List.of("--server.port=" + options.gatewayPort(),
+                "--shareit-server.url=http://localhost:" + options.serverPort());
+
+        try (ApplicationProcess server = ApplicationProcess.start("server", options.serverJar(), serverArgs,
+                options.logDirectory());
+             ApplicationProcess gateway = ApplicationProcess.start("gateway", options.gatewayJar(), gatewayArgs,
+                     options.logDirectory())) {
+            server.awaitHealthy(client, "http://localhost:" + options.serverPort(), Duration.ofMinutes(2));
+            gateway.awaitHealthy(client, "http://localhost:" + options.gatewayPort(), Duration.ofMinutes(2));
+
+            new LoadTestRunner(options, client).run();
+        }
+    }
+
+    public void run() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads());
+        try {
+            seed(executor);
+            System.out.printf("Данные: %d пользователей, %d вещей%n", userIds.size(), itemIds.size());
+
+            drive(executor, options.warmup());
+            recorder.reset();
+
+            long started = System.nanoTime();
+            drive(executor, options.duration());
+            recorder.print(Duration.ofNanos(System.nanoTime() - started), System.out);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void seed(ExecutorService executor) throws Exception {
+        List<Callable<Long>> users = new ArrayList<>();
+        for (int i = 0; i < options.users(); i++) {
+            int number = i;
+            users.add(() -> api.createUser("Пользователь " + number, "load" + number + "@shareit.test"));
+        }
+        userIds.addAll(collect(executor.invokeAll(users)));
+
+        List<Callable<Long>> items = new ArrayList<>();
+        for (Long ownerId : userIds) {
+            for (int i = 0; i < options.itemsPerUser(); i++) {
+                String word = WORDS[(int) ((ownerId + i) % WORDS.length)];
+                items.add(() -> {
+                    long itemId = api.createItem(ownerId, word + " " + ownerId, "Хорошая " + word + " для дома");
+                    ownerByItem.put(itemId, ownerId);
+                    return itemId;
+                });
+            }
+        }
+        itemIds.addAll(collect(executor.invokeAll(items)));
+
+        List<Callable<Long>> bookings = new ArrayList<>();
+        for (Long itemId : itemIds) {
+            for (int i = 0; i < options.bookingsPerItem(); i++) {
+                bookings.add(() -> bookAndDecide(itemId));
+            }
+        }
+        collect(executor.invokeAll(bookings));
+    }
+
+    private void drive(ExecutorService executor, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < options.threads(); i++) {
+            workers.add(() -> {
+                while (System.nanoTime() < deadline) {
+                    try {
+                        nextRequest();
+                    } catch (IOException e) {
+                        // already recorded as an error
+                    }
+                }
+                return null;
+            });
+        }
+        collect(executor.invokeAll(workers));
+    }
+
+    private void nextRequest() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(100);
+        if (roll < 30) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            api.searchItems(random.nextBoolean() ? word : word.substring(0, 3), 10);
+        } else if (roll < 55) {
+            api.getOwnerItems(randomUser(), 10);
+        } else if (roll < 70) {
+            api.getBookerBookings(randomUser(), STATES[random.nextInt(STATES.length)]);
+        } else if (roll < 85) {
+            api.getOwnerBookings(randomUser(), STATES[random.nextInt(STATES.length)]);
+        } else {
+            bookAndDecide(itemIds.get(random.nextInt(itemIds.size())));
+        }
+    }
+
+    private long bookAndDecide(long itemId) throws IOException, InterruptedException {
+        long ownerId = ownerByItem.get(itemId);
+        long bookerId = randomUser();
+        while (bookerId == ownerId) {
+            bookerId = randomUser();
+        }
+
+        LocalDateTime start = bookingBase.plusHours(bookingSlot.getAndIncrement() * 2);
+        long bookingId = api.createBooking(bookerId, itemId, start, start.plusHours(1));
+        api.approveBooking(ownerId, bookingId, ThreadLocalRandom.current().nextInt(4) != 0);
+        return bookingId;
+    }
+
+    private long randomUser() {
+        return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+    }
+
+    private static <T> List<T> collect(List<Future<T>> futures) throws Exception {
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+}
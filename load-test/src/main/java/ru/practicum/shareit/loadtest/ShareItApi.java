@@ -0,0 +1,114 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public class ShareItApi {
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ShareItApi(HttpClient client, String baseUrl, LatencyRecorder recorder) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    public long createUser(String name, String email) throws IOException, InterruptedException {
+        String body = "{\"name\":\"" + name + "\",\"email\":\"" + email + "\"}";
+        return id(send("POST /users", post("/users", null, body)));
+    }
+
+    public long createItem(long ownerId, String name, String description) throws IOException, InterruptedException {
+        String body = "{\"name\":\"" + name + "\",\"description\":\"" + description + "\",\"available\":true}";
+        return id(send("POST /items", post("/items", ownerId, body)));
+    }
+
+    public long createBooking(long bookerId, long itemId, LocalDateTime start, LocalDateTime end)
+            throws IOException, InterruptedException {
+        String body = "{\"itemId\":" + itemId + ",\"start\":\"" + start.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                + "\",\"end\":\"" + end.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "\"}";
+        return id(send("POST /bookings", post("/bookings", bookerId, body)));
+    }
+
+    public void approveBooking(long ownerId, long bookingId, boolean approved)
+            throws IOException, InterruptedException {
+        HttpRequest request = builder("/bookings/" + bookingId + "?approved=" + approved, ownerId)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build();
+        send("PATCH /bookings/{id}", request);
+    }
+
+    public void searchItems(String text, int size) throws IOException, InterruptedException {
+        send("GET /items/search", get("/items/search?text=" + URLEncoder.encode(text, StandardCharsets.UTF_8)
+                + "&from=0&size=" + size, null));
+    }
+
+    public void getOwnerItems(long ownerId, int size) throws IOException, InterruptedException {
+        send("GET /items", get("/items?from=0&size=" + size, ownerId));
+    }
+
+    public void getBookerBookings(long bookerId, String state) throws IOException, InterruptedException {
+        send("GET /bookings", get("/bookings?state=" + state, bookerId));
+    }
+
+    public void getOwnerBookings(long ownerId, String state) throws IOException, InterruptedException {
+        send("GET /bookings/owner", get("/bookings/owner?state=" + state, ownerId));
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - started, false);
+            throw e;
+        }
+        recorder.record(endpoint, System.nanoTime() - started, response.statusCode() < 400);
+        return response;
+    }
+
+    private long id(HttpResponse<String> response) throws IOException {
+        if (response.statusCode() >= 400) {
+            throw new IOException("Ответ " + response.statusCode() + ": " + response.body());
+        }
+        JsonNode id = objectMapper.readTree(response.body()).get("id");
+        if (id == null) {
+            throw new IOException("В ответе нет id: " + response.body());
+        }
+        return id.asLong();
+    }
+
+    private HttpRequest get(String path, Long userId) {
+        return builder(path, userId).GET().build();
+    }
+
+    private HttpRequest post(String path, Long userId, String body) {
+        return builder(path, userId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder builder(String path, Long userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path));
+        if (userId != null) {
+            builder.header(USER_HEADER, String.valueOf(userId));
+        }
+        return builder;
+    }
+}
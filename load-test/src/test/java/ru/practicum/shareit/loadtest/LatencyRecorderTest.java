@@ -0,0 +1,27 @@
+package ru.practicum.shareit.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyRecorderTest {
+
+    @Test
+    void summarize_shouldComputePercentilesAndThroughput() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 1; i <= 100; i++) {
+            recorder.record("GET /items", i * 1_000_000L, i != 100);
+        }
+
+        LatencyRecorder.Summary summary = recorder.summarize(Duration.ofSeconds(10)).get("GET /items");
+
+        assertThat(summary.requests()).isEqualTo(100);
+        assertThat(summary.errors()).isEqualTo(1);
+        assertThat(summary.throughput()).isEqualTo(10.0);
+        assertThat(summary.p50Millis()).isEqualTo(50.0);
+        assertThat(summary.p99Millis()).isEqualTo(99.0);
+        assertThat(summary.maxMillis()).isEqualTo(100.0);
+    }
+}
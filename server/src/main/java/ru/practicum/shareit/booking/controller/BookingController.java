@@ -1,12 +1,21 @@
 package ru.practicum.shareit.booking.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.dto.BookingApprovalDto;
+import ru.practicum.shareit.booking.dto.BookingApprovalResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingImportDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.config.NdjsonResponses;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -14,6 +23,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookingController {
     private final BookingService bookingService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public BookingResponseDto createBooking(@Valid @RequestBody BookingDto bookingDto,
@@ -21,6 +31,12 @@ public class BookingController {
         return bookingService.createBooking(bookingDto, bookerId);
     }
 
+    @PostMapping("/import")
+    public List<BookingResponseDto> importBookings(@RequestBody List<BookingImportDto> bookingDtos,
+                                                   @RequestHeader("X-Sharer-User-Id") Long ownerId) {
+        return bookingService.importBookings(bookingDtos, ownerId);
+    }
+
     @PatchMapping("/{bookingId}")
     public BookingResponseDto approveBooking(@PathVariable Long bookingId,
                                              @RequestParam boolean approved,
@@ -28,6 +44,12 @@ public class BookingController {
         return bookingService.approveBooking(bookingId, ownerId, approved);
     }
 
+    @PatchMapping("/approve")
+    public List<BookingApprovalResultDto> approveBookings(@Valid @RequestBody BookingApprovalDto approvalDto,
+                                                          @RequestHeader("X-Sharer-User-Id") Long ownerId) {
+        return bookingService.approveBookings(approvalDto.getBookingIds(), ownerId, approvalDto.getApproved());
+    }
+
     @GetMapping("/{bookingId}")
     public BookingResponseDto getBookingById(@PathVariable Long bookingId,
                                              @RequestHeader("X-Sharer-User-Id") Long userId) {
@@ -35,14 +57,36 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingResponseDto> getAllBookingsByBooker(@RequestHeader("X-Sharer-User-Id") Long bookerId,
-                                                           @RequestParam(defaultValue = "ALL") String state) {
-        return bookingService.getAllBookingsByBooker(bookerId, state);
+    public List<BookingResponseDto> getAllBookingsByBooker(
+            @RequestHeader("X-Sharer-User-Id") Long bookerId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterStart,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size) {
+        if (size == null) {
+            return bookingService.getAllBookingsByBooker(bookerId, state);
+        }
+        return bookingService.getAllBookingsByBooker(bookerId, state, afterStart, afterId, size);
     }
 
     @GetMapping("/owner")
-    public List<BookingResponseDto> getAllBookingsByOwner(@RequestHeader("X-Sharer-User-Id") Long ownerId,
-                                                          @RequestParam(defaultValue = "ALL") String state) {
-        return bookingService.getAllBookingsByOwner(ownerId, state);
+    public List<BookingResponseDto> getAllBookingsByOwner(
+            @RequestHeader("X-Sharer-User-Id") Long ownerId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterStart,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size) {
+        if (size == null) {
+            return bookingService.getAllBookingsByOwner(ownerId, state);
+        }
+        return bookingService.getAllBookingsByOwner(ownerId, state, afterStart, afterId, size);
+    }
+
+    @GetMapping("/owner/export")
+    public ResponseEntity<StreamingResponseBody> exportBookingsByOwner(
+            @RequestHeader("X-Sharer-User-Id") Long ownerId) {
+        bookingService.checkUserExists(ownerId);
+        return NdjsonResponses.<BookingResponseDto>of(objectMapper,
+                consumer -> bookingService.exportBookingsByOwner(ownerId, consumer));
     }
 }
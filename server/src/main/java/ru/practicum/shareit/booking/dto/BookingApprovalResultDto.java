@@ -0,0 +1,15 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingApprovalResultDto {
+    private Long bookingId;
+    private BookingStatus status;
+    private String error;
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.booking.dto;
+
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+public interface BookingApprovalView {
+    Long getId();
+
+    Long getItemId();
+
+    Long getOwnerId();
+
+    BookingStatus getStatus();
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.booking.dto;
+
+import java.time.LocalDateTime;
+
+public interface NearestBookingView {
+    String LAST = "LAST";
+    String NEXT = "NEXT";
+
+    Long getItemId();
+
+    Long getId();
+
+    Long getBookerId();
+
+    String getKind();
+
+    LocalDateTime getStart();
+}
@@ -5,6 +5,7 @@ import ru.practicum.shareit.booking.dto.BookingDto;
 
 
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.item.model.Item;
@@ -33,6 +34,17 @@ public class BookingMapper {
         );
     }
 
+    public static BookingResponseDto toBookingResponseDto(BookingView view) {
+        return new BookingResponseDto(
+                view.getId(),
+                view.getStart(),
+                view.getEnd(),
+                new BookingResponseDto.Item(view.getItemId(), view.getItemName()),
+                new BookingResponseDto.Booker(view.getBookerId()),
+                view.getStatus().name()
+        );
+    }
+
     public static BookingDto toBookingDto(Booking booking) {
         return new BookingDto(
                 booking.getId(),
@@ -1,64 +1,61 @@
 package ru.practicum.shareit.booking.repository;
 
-import org.springframework.data.domain.Sort;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.dto.BookingApprovalView;
+import ru.practicum.shareit.booking.dto.NearestBookingView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
-
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findByBookerId(Long bookerId, Sort sort);
-
-    List<Booking> findByItemOwnerId(Long ownerId, Sort sort);
-
-    List<Booking> findByBookerIdAndEndBefore(Long bookerId, LocalDateTime end, Sort sort);
-
-    List<Booking> findByBookerIdAndStartAfter(Long bookerId, LocalDateTime start, Sort sort);
-
-    List<Booking> findByBookerIdAndStartBeforeAndEndAfter(Long bookerId, LocalDateTime start,
-                                                          LocalDateTime end, Sort sort);
-
-    List<Booking> findByBookerIdAndStatus(Long bookerId, BookingStatus status, Sort sort);
-
-    List<Booking> findByItemOwnerIdAndEndBefore(Long ownerId, LocalDateTime end, Sort sort);
-
-    List<Booking> findByItemOwnerIdAndStartAfter(Long ownerId, LocalDateTime start, Sort sort);
-
-    List<Booking> findByItemOwnerIdAndStartBeforeAndEndAfter(Long ownerId, LocalDateTime start,
-                                                             LocalDateTime end, Sort sort);
-
-    List<Booking> findByItemOwnerIdAndStatus(Long ownerId, BookingStatus status, Sort sort);
+import java.util.stream.Stream;
 
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingRepositoryCustom {
     List<Booking> findByItemIdAndBookerIdAndEndBeforeAndStatus(
             Long itemId, Long bookerId, LocalDateTime now, BookingStatus status);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds AND " +
-            "b.start < :now AND b.status = :status ORDER BY b.start DESC")
-    List<Booking> findLastBookingsForItems(@Param("itemIds") List<Long> itemIds,
-                                           @Param("now") LocalDateTime now,
-                                           @Param("status") BookingStatus status);
-
-    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds AND " +
-            "b.start > :now AND b.status = :status ORDER BY b.start ASC")
-    List<Booking> findNextBookingsForItems(@Param("itemIds") List<Long> itemIds,
-                                           @Param("now") LocalDateTime now,
-                                           @Param("status") BookingStatus status);
-
-    @Query("SELECT b FROM Booking b JOIN FETCH b.booker WHERE b.item.id = :itemId AND" +
-            " b.start < :now AND b.status = :status ORDER BY b.start DESC LIMIT 1")
-    Optional<Booking> findLastBookingWithBooker(@Param("itemId") Long itemId,
-                                                @Param("now") LocalDateTime now,
-                                                @Param("status") BookingStatus status);
-
-    @Query("SELECT b FROM Booking b JOIN FETCH b.booker WHERE b.item.id = :itemId AND" +
-            " b.start > :now AND b.status = :status ORDER BY b.start ASC LIMIT 1")
-    Optional<Booking> findNextBookingWithBooker(@Param("itemId") Long itemId,
-                                                @Param("now") LocalDateTime now,
-                                                @Param("status") BookingStatus status);
-
+    List<Booking> findByStatusInAndEndAfter(Collection<BookingStatus> statuses, LocalDateTime end);
+
+    @Query(value = "SELECT ranked.item_id AS \"itemId\", ranked.id AS \"id\", ranked.booker_id AS \"bookerId\", " +
+            "ranked.kind AS \"kind\", ranked.start_date AS \"start\" FROM (" +
+            "SELECT b.item_id, b.id, b.booker_id, b.start_date, " +
+            "CASE WHEN b.start_date < :now THEN 'LAST' ELSE 'NEXT' END AS kind, " +
+            "ROW_NUMBER() OVER (PARTITION BY b.item_id, CASE WHEN b.start_date < :now THEN 0 ELSE 1 END " +
+            "ORDER BY CASE WHEN b.start_date < :now THEN b.start_date END DESC, b.start_date ASC) AS rn " +
+            "FROM bookings b " +
+            "WHERE b.item_id IN (:itemIds) AND b.status = :status AND b.start_date <> :now" +
+            ") ranked WHERE ranked.rn = 1", nativeQuery = true)
+    List<NearestBookingView> findLastAndNextBookingsForItems(@Param("itemIds") Collection<Long> itemIds,
+                                                             @Param("now") LocalDateTime now,
+                                                             @Param("status") String status);
+
+    @Query("SELECT b.id AS id, b.item.id AS itemId, b.item.owner.id AS ownerId, b.status AS status " +
+            "FROM Booking b WHERE b.id IN :ids")
+    List<BookingApprovalView> findApprovalViews(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT b.id AS id, i.id AS itemId, i.owner.id AS ownerId, b.status AS status " +
+            "FROM Booking b JOIN b.item i " +
+            "WHERE (b.booker.id = :userId OR i.owner.id = :userId) AND b.status IN :statuses AND b.end > :now")
+    List<BookingApprovalView> findActiveByParticipant(@Param("userId") Long userId,
+                                                      @Param("statuses") Collection<BookingStatus> statuses,
+                                                      @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :status WHERE b.id IN :ids AND b.status = :expected")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("expected") BookingStatus expected,
+                     @Param("status") BookingStatus status);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = :ownerId ORDER BY b.start DESC, b.id DESC")
+    Stream<Booking> streamByItemOwnerId(@Param("ownerId") Long ownerId);
 }
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingRepositoryCustom {
+    List<BookingView> findBookerPage(Long bookerId, BookingState state, LocalDateTime now, LocalDateTime afterStart,
+                                     Long afterId, Limit limit);
+
+    List<BookingView> findOwnerPage(Long ownerId, BookingState state, LocalDateTime now, LocalDateTime afterStart,
+                                    Long afterId, Limit limit);
+
+    List<Long> updateStatusEach(List<Long> ids, BookingStatus expected, BookingStatus status);
+}
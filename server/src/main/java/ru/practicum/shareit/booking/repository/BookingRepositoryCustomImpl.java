@@ -0,0 +1,121 @@
+package ru.practicum.shareit.booking.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Booker and owner booking pages as one statement each. Every state gets its own JPQL, built once, that carries
+ * only the predicates the state needs, so the database plans each state separately against the
+ * (user, start, id) index instead of sharing one generic plan with catch-all status and date bounds.
+ * All states share the same projection and keyset cursor.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookingRepositoryCustomImpl implements BookingRepositoryCustom {
+    private static final String BOOKING_VIEW = "SELECT new ru.practicum.shareit.booking.dto.BookingView(" +
+            "b.id, b.start, b.end, i.id, i.name, b.booker.id, b.status) FROM Booking b JOIN b.item i ";
+    private static final String CURSOR_PAGE =
+            "AND (b.start < :afterStart OR (b.start = :afterStart AND b.id < :afterId)) " +
+            "ORDER BY b.start DESC, b.id DESC";
+    private static final Map<BookingState, String> BOOKER_PAGES = statePages("WHERE b.booker.id = :userId ");
+    private static final Map<BookingState, String> OWNER_PAGES = statePages("WHERE i.owner.id = :userId ");
+
+    private static final String UPDATE_STATUS = "UPDATE bookings SET status = ? WHERE id = ? AND status = ?";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<BookingView> findBookerPage(Long bookerId, BookingState state, LocalDateTime now,
+                                            LocalDateTime afterStart, Long afterId, Limit limit) {
+        return findPage(BOOKER_PAGES.get(state), bookerId, state, now, afterStart, afterId, limit);
+    }
+
+    @Override
+    public List<BookingView> findOwnerPage(Long ownerId, BookingState state, LocalDateTime now,
+                                           LocalDateTime afterStart, Long afterId, Limit limit) {
+        return findPage(OWNER_PAGES.get(state), ownerId, state, now, afterStart, afterId, limit);
+    }
+
+    private List<BookingView> findPage(String jpql, Long userId, BookingState state, LocalDateTime now,
+                                       LocalDateTime afterStart, Long afterId, Limit limit) {
+        TypedQuery<BookingView> query = entityManager.createQuery(jpql, BookingView.class)
+                .setParameter("userId", userId)
+                .setParameter("afterStart", afterStart)
+                .setParameter("afterId", afterId);
+        if (state == BookingState.CURRENT || state == BookingState.PAST || state == BookingState.FUTURE) {
+            query.setParameter("now", now);
+        } else if (state == BookingState.WAITING || state == BookingState.REJECTED) {
+            query.setParameter("status", BookingStatus.valueOf(state.name()));
+        }
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Runs one conditional update per id in a single JDBC batch and returns the ids whose row actually changed,
+     * so a caller that lost a race to another approval never reports it as its own transition.
+     */
+    @Override
+    @Transactional
+    public List<Long> updateStatusEach(List<Long> ids, BookingStatus expected, BookingStatus status) {
+        entityManager.flush();
+        int[] counts = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_STATUS)) {
+                for (Long id : ids) {
+                    statement.setString(1, status.name());
+                    statement.setLong(2, id);
+                    statement.setString(3, expected.name());
+                    statement.addBatch();
+                }
+                return statement.executeBatch();
+            }
+        });
+        entityManager.clear();
+
+        List<Long> updated = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException("JDBC driver did not report per-row update counts");
+            }
+            if (counts[i] > 0) {
+                updated.add(ids.get(i));
+            }
+        }
+        return updated;
+    }
+
+    private static Map<BookingState, String> statePages(String userFilter) {
+        Map<BookingState, String> pages = new EnumMap<>(BookingState.class);
+        for (BookingState state : BookingState.values()) {
+            pages.put(state, BOOKING_VIEW + userFilter + statePredicate(state) + CURSOR_PAGE);
+        }
+        return pages;
+    }
+
+    private static String statePredicate(BookingState state) {
+        return switch (state) {
+            case ALL -> "";
+            case CURRENT -> "AND b.start < :now AND b.end > :now ";
+            case PAST -> "AND b.end < :now ";
+            case FUTURE -> "AND b.start > :now ";
+            case WAITING, REJECTED -> "AND b.status = :status ";
+        };
+    }
+}
@@ -0,0 +1,279 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class BookingIntervalIndex {
+    private static final List<BookingStatus> ACTIVE_STATUSES = List.of(BookingStatus.WAITING, BookingStatus.APPROVED);
+
+    private final BookingRepository bookingRepository;
+    private final Map<Long, ItemIntervals> intervalsByItem = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        Map<Long, List<Booking>> bookingsByItem = bookingRepository
+                .findByStatusInAndEndAfter(ACTIVE_STATUSES, LocalDateTime.now())
+                .stream()
+                .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
+
+        bookingsByItem.forEach((itemId, bookings) ->
+                intervalsByItem.merge(itemId, ItemIntervals.of(bookings), ItemIntervals::union));
+    }
+
+    public boolean isFree(Long itemId, LocalDateTime start, LocalDateTime end) {
+        ItemIntervals intervals = intervalsByItem.get(itemId);
+        if (intervals != null && intervals.hasEndedBy(currentEpochMilli())) {
+            intervals = intervalsByItem.computeIfPresent(itemId, (id, current) -> current.prune(currentEpochMilli()));
+        }
+        return intervals == null || !intervals.overlaps(toEpochMilli(start), toEpochMilli(end));
+    }
+
+    public boolean tryReserve(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        long start = toEpochMilli(booking.getStart());
+        long end = toEpochMilli(booking.getEnd());
+        boolean[] reserved = new boolean[1];
+
+        intervalsByItem.compute(itemId, (id, current) -> {
+            ItemIntervals intervals = current != null ? current.prune(currentEpochMilli()) : null;
+            if (intervals == null) {
+                intervals = ItemIntervals.EMPTY;
+            }
+            if (intervals.overlaps(start, end)) {
+                return intervals.isEmpty() ? null : intervals;
+            }
+            reserved[0] = true;
+            return intervals.with(booking.getId(), start, end);
+        });
+
+        if (reserved[0]) {
+            runAfterCompletion(committed -> {
+                if (!committed) {
+                    remove(itemId, booking.getId());
+                }
+            });
+        }
+        return reserved[0];
+    }
+
+    /**
+     * Bookings of a deleted user, and bookings of the items they own, go away through ON DELETE CASCADE
+     * without passing through the booking service, so their periods are dropped here once the delete commits.
+     */
+    public void releaseParticipant(Long userId) {
+        bookingRepository.findActiveByParticipant(userId, ACTIVE_STATUSES, LocalDateTime.now())
+                .forEach(booking -> release(booking.getItemId(), booking.getId()));
+    }
+
+    public void release(Long itemId, Long bookingId) {
+        runAfterCompletion(committed -> {
+            if (committed) {
+                remove(itemId, bookingId);
+            }
+        });
+    }
+
+    private void remove(Long itemId, Long bookingId) {
+        intervalsByItem.computeIfPresent(itemId, (id, current) -> {
+            ItemIntervals intervals = current.without(bookingId).prune(currentEpochMilli());
+            return intervals == null || intervals.isEmpty() ? null : intervals;
+        });
+    }
+
+    private static void runAfterCompletion(CompletionCallback callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.afterCompletion(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.afterCompletion(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private static long currentEpochMilli() {
+        return toEpochMilli(LocalDateTime.now());
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @FunctionalInterface
+    private interface CompletionCallback {
+        void afterCompletion(boolean committed);
+    }
+
+    /**
+     * Copy-on-write arrays sorted by start; maxEnds[i] is the latest end among the first i + 1 periods,
+     * so an overlap check is a single binary search even when stored periods overlap each other. Periods that
+     * have already ended can no longer collide with a new booking and are dropped on the next access.
+     */
+    private static final class ItemIntervals {
+        private static final ItemIntervals EMPTY = new ItemIntervals(new long[0], new long[0], new long[0]);
+
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] ids;
+        private final long[] maxEnds;
+        private final long minEnd;
+
+        private ItemIntervals(long[] starts, long[] ends, long[] ids) {
+            this.starts = starts;
+            this.ends = ends;
+            this.ids = ids;
+            this.maxEnds = new long[ends.length];
+            long earliestEnd = Long.MAX_VALUE;
+            for (int i = 0; i < ends.length; i++) {
+                maxEnds[i] = i == 0 ? ends[i] : Math.max(maxEnds[i - 1], ends[i]);
+                earliestEnd = Math.min(earliestEnd, ends[i]);
+            }
+            this.minEnd = earliestEnd;
+        }
+
+        static ItemIntervals of(List<Booking> bookings) {
+            List<Booking> sorted = bookings.stream()
+                    .sorted((a, b) -> a.getStart().compareTo(b.getStart()))
+                    .collect(Collectors.toList());
+            long[] starts = new long[sorted.size()];
+            long[] ends = new long[sorted.size()];
+            long[] ids = new long[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                Booking booking = sorted.get(i);
+                starts[i] = toEpochMilli(booking.getStart());
+                ends[i] = toEpochMilli(booking.getEnd());
+                ids[i] = booking.getId();
+            }
+            return new ItemIntervals(starts, ends, ids);
+        }
+
+        boolean isEmpty() {
+            return ids.length == 0;
+        }
+
+        boolean hasEndedBy(long now) {
+            return minEnd <= now;
+        }
+
+        /**
+         * Returns {@code null} when no period is left, so compute calls drop the item from the map.
+         */
+        ItemIntervals prune(long now) {
+            if (!hasEndedBy(now)) {
+                return this;
+            }
+            int live = 0;
+            for (long end : ends) {
+                if (end > now) {
+                    live++;
+                }
+            }
+            if (live == 0) {
+                return null;
+            }
+            long[] liveStarts = new long[live];
+            long[] liveEnds = new long[live];
+            long[] liveIds = new long[live];
+            for (int i = 0, j = 0; i < ends.length; i++) {
+                if (ends[i] > now) {
+                    liveStarts[j] = starts[i];
+                    liveEnds[j] = ends[i];
+                    liveIds[j++] = ids[i];
+                }
+            }
+            return new ItemIntervals(liveStarts, liveEnds, liveIds);
+        }
+
+        boolean overlaps(long start, long end) {
+            int last = lastStartingBefore(end);
+            return last >= 0 && maxEnds[last] > start;
+        }
+
+        ItemIntervals with(long id, long start, long end) {
+            int position = lastStartingBefore(start + 1) + 1;
+            return new ItemIntervals(insert(starts, position, start), insert(ends, position, end),
+                    insert(ids, position, id));
+        }
+
+        /**
+         * Adds the periods of {@code loaded} that are not stored yet, so a reservation made while the index was
+         * warming up is kept next to the periods read from the database.
+         */
+        ItemIntervals union(ItemIntervals loaded) {
+            ItemIntervals result = this;
+            for (int i = 0; i < loaded.ids.length; i++) {
+                if (!result.contains(loaded.ids[i])) {
+                    result = result.with(loaded.ids[i], loaded.starts[i], loaded.ends[i]);
+                }
+            }
+            return result;
+        }
+
+        private boolean contains(long id) {
+            for (long stored : ids) {
+                if (stored == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        ItemIntervals without(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    return new ItemIntervals(delete(starts, i), delete(ends, i), delete(ids, i));
+                }
+            }
+            return this;
+        }
+
+        private int lastStartingBefore(long time) {
+            int low = 0;
+            int high = starts.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] < time) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+
+        private static long[] insert(long[] source, int position, long value) {
+            long[] result = Arrays.copyOf(source, source.length + 1);
+            System.arraycopy(source, position, result, position + 1, source.length - position);
+            result[position] = value;
+            return result;
+        }
+
+        private static long[] delete(long[] source, int position) {
+            long[] result = new long[source.length - 1];
+            System.arraycopy(source, 0, result, 0, position);
+            System.arraycopy(source, position + 1, result, position, source.length - position - 1);
+            return result;
+        }
+    }
+}
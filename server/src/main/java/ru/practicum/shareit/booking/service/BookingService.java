@@ -1,18 +1,36 @@
 package ru.practicum.shareit.booking.service;
 
+import ru.practicum.shareit.booking.dto.BookingApprovalResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingImportDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface BookingService {
     BookingResponseDto createBooking(BookingDto bookingDto, Long bookerId);
 
     BookingResponseDto approveBooking(Long bookingId, Long ownerId, boolean approved);
 
+    List<BookingResponseDto> importBookings(List<BookingImportDto> bookingDtos, Long ownerId);
+
+    List<BookingApprovalResultDto> approveBookings(List<Long> bookingIds, Long ownerId, boolean approved);
+
     BookingResponseDto getBookingById(Long bookingId, Long userId);
 
     List<BookingResponseDto> getAllBookingsByBooker(Long bookerId, String state);
 
     List<BookingResponseDto> getAllBookingsByOwner(Long ownerId, String state);
+
+    void checkUserExists(Long userId);
+
+    void exportBookingsByOwner(Long ownerId, Consumer<BookingResponseDto> consumer);
+
+    List<BookingResponseDto> getAllBookingsByBooker(Long bookerId, String state, LocalDateTime afterStart,
+                                                    Long afterId, int size);
+
+    List<BookingResponseDto> getAllBookingsByOwner(Long ownerId, String state, LocalDateTime afterStart,
+                                                   Long afterId, int size);
 }
@@ -1,44 +1,70 @@
 package ru.practicum.shareit.booking.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingApprovalResultDto;
+import ru.practicum.shareit.booking.dto.BookingApprovalView;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingImportDto;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.config.StreamingExports;
 import ru.practicum.shareit.exception.AccessDeniedException;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.NearestBookingCache;
+import ru.practicum.shareit.item.service.OwnerItemReadModel;
+import ru.practicum.shareit.metrics.BookingMetrics;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BookingServiceIml implements BookingService {
+    private static final LocalDateTime OPEN_CURSOR_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final long OPEN_CURSOR_ID = Long.MAX_VALUE;
+    private static final int MAX_IMPORT_SIZE = 1000;
+
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
+    private final UserExistenceChecker userExistenceChecker;
     private final ItemRepository itemRepository;
-    private final Sort sort = Sort.by(Sort.Direction.DESC, "start");
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final BookingMetrics bookingMetrics;
+    private final NearestBookingCache nearestBookingCache;
+    private final OwnerItemReadModel ownerItemReadModel;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
     public BookingResponseDto createBooking(BookingDto bookingDto, Long bookerId) {
         validateBookingDates(bookingDto);
 
-        User booker = userRepository.findById(bookerId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
+        User booker = userRepository.getReferenceById(userExistenceChecker.requireExisting(bookerId));
         Item item = itemRepository.findById(bookingDto.getItemId())
                 .orElseThrow(() -> new NotFoundException("Вещь не найдена"));
 
@@ -50,13 +76,79 @@ public class BookingServiceIml implements BookingService {
             throw new NotFoundException("Владелец не может бронировать свою вещь");
         }
 
+        if (!bookingIntervalIndex.isFree(item.getId(), bookingDto.getStart(), bookingDto.getEnd())) {
+            throw new ConflictException("Вещь уже забронирована на указанные даты");
+        }
+
         Booking booking = BookingMapper.toBooking(bookingDto, item, booker);
         booking.setStatus(BookingStatus.WAITING);
         Booking savedBooking = bookingRepository.save(booking);
 
+        if (!bookingIntervalIndex.tryReserve(savedBooking)) {
+            throw new ConflictException("Вещь уже забронирована на указанные даты");
+        }
+        nearestBookingCache.evict(item.getId());
+        ownerItemReadModel.pendingChanged(Map.of(item.getId(), 1L));
+
         return BookingMapper.toBookingResponseDto(savedBooking);
     }
 
+    @Override
+    @Transactional
+    public List<BookingResponseDto> importBookings(List<BookingImportDto> bookingDtos, Long ownerId) {
+        validateImport(bookingDtos);
+        userExistenceChecker.requireExisting(ownerId);
+
+        Map<Long, Item> items = itemRepository.findAllById(bookingDtos.stream()
+                        .map(BookingImportDto::getItemId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        Map<Long, User> bookers = userRepository.findAllById(bookingDtos.stream()
+                        .map(BookingImportDto::getBookerId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Booking> bookings = new ArrayList<>(bookingDtos.size());
+        for (BookingImportDto bookingDto : bookingDtos) {
+            Item item = items.get(bookingDto.getItemId());
+            if (item == null) {
+                throw new NotFoundException("Вещь не найдена");
+            }
+            if (!item.getOwner().getId().equals(ownerId)) {
+                throw new AccessDeniedException("Импортировать бронирования может только владелец вещи");
+            }
+            User booker = bookers.get(bookingDto.getBookerId());
+            if (booker == null) {
+                throw new NotFoundException("Пользователь не найден");
+            }
+            if (!bookingDto.getEnd().isAfter(bookingDto.getStart())) {
+                throw new ValidationException("Дата окончания должна быть после даты начала");
+            }
+            bookings.add(new Booking(null, bookingDto.getStart(), bookingDto.getEnd(), item, booker,
+                    parseStatus(bookingDto.getStatus())));
+        }
+
+        List<Booking> savedBookings = bookingRepository.saveAll(bookings);
+        LocalDateTime now = LocalDateTime.now();
+        for (Booking booking : savedBookings) {
+            boolean active = booking.getStatus() == BookingStatus.WAITING
+                    || booking.getStatus() == BookingStatus.APPROVED;
+            if (active && booking.getEnd().isAfter(now) && !bookingIntervalIndex.tryReserve(booking)) {
+                throw new ConflictException("Вещь уже забронирована на указанные даты");
+            }
+        }
+        items.keySet().forEach(nearestBookingCache::evict);
+        ownerItemReadModel.pendingChanged(savedBookings.stream()
+                .filter(booking -> booking.getStatus() == BookingStatus.WAITING)
+                .collect(Collectors.groupingBy(booking -> booking.getItem().getId(), Collectors.counting())));
+
+        return savedBookings.stream()
+                .map(BookingMapper::toBookingResponseDto)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public BookingResponseDto approveBooking(Long bookingId, Long ownerId, boolean approved) {
@@ -64,7 +156,7 @@ public class BookingServiceIml implements BookingService {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Бронирование не найдено"));
 
-        boolean userExists = userRepository.existsById(ownerId);
+        boolean userExists = userExistenceChecker.exists(ownerId);
 
         if (!userExists || !booking.getItem().getOwner().getId().equals(ownerId)) {
             throw new ValidationException("Только владелец вещи может подтверждать бронирование");
@@ -75,10 +167,78 @@ public class BookingServiceIml implements BookingService {
             throw new ValidationException("Бронирование уже обработано");
         }
 
-        booking.setStatus(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
-        Booking updatedBooking = bookingRepository.save(booking);
+        BookingStatus target = approved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+        if (bookingRepository.updateStatus(List.of(bookingId), BookingStatus.WAITING, target) == 0) {
+            throw new ValidationException("Бронирование уже обработано");
+        }
+        booking.setStatus(target);
+        bookingMetrics.transition(BookingStatus.WAITING, target);
+        nearestBookingCache.evict(booking.getItem().getId());
+        ownerItemReadModel.pendingChanged(Map.of(booking.getItem().getId(), -1L));
 
-        return BookingMapper.toBookingResponseDto(updatedBooking);
+        if (!approved) {
+            bookingIntervalIndex.release(booking.getItem().getId(), booking.getId());
+        }
+
+        return BookingMapper.toBookingResponseDto(booking);
+    }
+
+    @Override
+    @Transactional
+    public List<BookingApprovalResultDto> approveBookings(List<Long> bookingIds, Long ownerId, boolean approved) {
+        if (bookingIds == null || bookingIds.isEmpty() || bookingIds.stream().anyMatch(Objects::isNull)) {
+            throw new ValidationException("Список бронирований не может быть пустым");
+        }
+        if (!userExistenceChecker.exists(ownerId)) {
+            throw new ValidationException("Только владелец вещи может подтверждать бронирование");
+        }
+
+        Map<Long, BookingApprovalView> views = bookingRepository.findApprovalViews(bookingIds).stream()
+                .collect(Collectors.toMap(BookingApprovalView::getId, Function.identity()));
+        BookingStatus target = approved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+
+        Map<Long, BookingApprovalResultDto> results = new LinkedHashMap<>();
+        List<Long> eligibleIds = new ArrayList<>();
+        for (Long bookingId : bookingIds) {
+            BookingApprovalView view = views.get(bookingId);
+            if (view == null) {
+                results.put(bookingId, new BookingApprovalResultDto(bookingId, null, "Бронирование не найдено"));
+            } else if (!view.getOwnerId().equals(ownerId)) {
+                results.put(bookingId, new BookingApprovalResultDto(bookingId, null,
+                        "Только владелец вещи может подтверждать бронирование"));
+            } else if (view.getStatus() != BookingStatus.WAITING) {
+                results.put(bookingId, new BookingApprovalResultDto(bookingId, view.getStatus(),
+                        "Бронирование уже обработано"));
+            } else if (!results.containsKey(bookingId)) {
+                results.put(bookingId, new BookingApprovalResultDto(bookingId, target, null));
+                eligibleIds.add(bookingId);
+            }
+        }
+        if (eligibleIds.isEmpty()) {
+            return new ArrayList<>(results.values());
+        }
+
+        List<Long> updatedIds = bookingRepository.updateStatusEach(eligibleIds, BookingStatus.WAITING, target);
+        if (updatedIds.size() != eligibleIds.size()) {
+            List<Long> lostIds = new ArrayList<>(eligibleIds);
+            lostIds.removeAll(updatedIds);
+            bookingRepository.findApprovalViews(lostIds).forEach(view -> results.put(view.getId(),
+                    new BookingApprovalResultDto(view.getId(), view.getStatus(), "Бронирование уже обработано")));
+            eligibleIds.retainAll(updatedIds);
+        }
+
+        Map<Long, Long> pendingDeltas = new HashMap<>();
+        for (Long bookingId : eligibleIds) {
+            Long itemId = views.get(bookingId).getItemId();
+            bookingMetrics.transition(BookingStatus.WAITING, target);
+            nearestBookingCache.evict(itemId);
+            pendingDeltas.merge(itemId, -1L, Long::sum);
+            if (!approved) {
+                bookingIntervalIndex.release(itemId, bookingId);
+            }
+        }
+        ownerItemReadModel.pendingChanged(pendingDeltas);
+        return new ArrayList<>(results.values());
     }
 
     @Override
@@ -96,50 +256,66 @@ public class BookingServiceIml implements BookingService {
 
     @Override
     public List<BookingResponseDto> getAllBookingsByBooker(Long bookerId, String state) {
-        userRepository.findById(bookerId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
+        userExistenceChecker.requireExisting(bookerId);
 
-        BookingState bookingState = parseState(state);
-        LocalDateTime now = LocalDateTime.now();
-
-        List<Booking> bookings = switch (bookingState) {
-            case ALL -> bookingRepository.findByBookerId(bookerId, sort);
-            case CURRENT -> bookingRepository.findByBookerIdAndStartBeforeAndEndAfter(
-                    bookerId, now, now, sort);
-            case PAST -> bookingRepository.findByBookerIdAndEndBefore(bookerId, now, sort);
-            case FUTURE -> bookingRepository.findByBookerIdAndStartAfter(bookerId, now, sort);
-            case WAITING -> bookingRepository.findByBookerIdAndStatus(bookerId, BookingStatus.WAITING, sort);
-            case REJECTED -> bookingRepository.findByBookerIdAndStatus(bookerId, BookingStatus.REJECTED, sort);
-        };
-
-        return bookings.stream()
-                .map(BookingMapper::toBookingResponseDto)
-                .collect(Collectors.toList());
+        return findPage(bookingRepository::findBookerPage, bookerId, parseState(state), null, null, Limit.unlimited());
     }
 
     @Override
     public List<BookingResponseDto> getAllBookingsByOwner(Long ownerId, String state) {
-        userRepository.findById(ownerId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
+        userExistenceChecker.requireExisting(ownerId);
 
-        BookingState bookingState = parseState(state);
-        LocalDateTime now = LocalDateTime.now();
+        return findPage(bookingRepository::findOwnerPage, ownerId, parseState(state), null, null, Limit.unlimited());
+    }
+
+    @Override
+    public void checkUserExists(Long userId) {
+        userExistenceChecker.requireExisting(userId);
+    }
+
+    @Override
+    public void exportBookingsByOwner(Long ownerId, Consumer<BookingResponseDto> consumer) {
+        StreamingExports.forEach(entityManager, bookingRepository.streamByItemOwnerId(ownerId),
+                BookingMapper::toBookingResponseDto, consumer);
+    }
+
+    @Override
+    public List<BookingResponseDto> getAllBookingsByBooker(Long bookerId, String state, LocalDateTime afterStart,
+                                                           Long afterId, int size) {
+        userExistenceChecker.requireExisting(bookerId);
+
+        return findPage(bookingRepository::findBookerPage, bookerId, parseState(state), afterStart, afterId,
+                toLimit(size));
+    }
+
+    @Override
+    public List<BookingResponseDto> getAllBookingsByOwner(Long ownerId, String state, LocalDateTime afterStart,
+                                                          Long afterId, int size) {
+        userExistenceChecker.requireExisting(ownerId);
 
-        List<Booking> bookings = switch (bookingState) {
-            case ALL -> bookingRepository.findByItemOwnerId(ownerId, sort);
-            case CURRENT -> bookingRepository.findByItemOwnerIdAndStartBeforeAndEndAfter(
-                    ownerId, now, now, sort);
-            case PAST -> bookingRepository.findByItemOwnerIdAndEndBefore(ownerId, now, sort);
-            case FUTURE -> bookingRepository.findByItemOwnerIdAndStartAfter(ownerId, now, sort);
-            case WAITING -> bookingRepository.findByItemOwnerIdAndStatus(ownerId, BookingStatus.WAITING, sort);
-            case REJECTED -> bookingRepository.findByItemOwnerIdAndStatus(ownerId, BookingStatus.REJECTED, sort);
-        };
-
-        return bookings.stream()
+        return findPage(bookingRepository::findOwnerPage, ownerId, parseState(state), afterStart, afterId,
+                toLimit(size));
+    }
+
+    private List<BookingResponseDto> findPage(PageQuery query, Long userId, BookingState state,
+                                              LocalDateTime afterStart, Long afterId, Limit limit) {
+        if (afterStart == null && afterId == null) {
+            afterStart = OPEN_CURSOR_START;
+            afterId = OPEN_CURSOR_ID;
+        } else if (afterStart == null || afterId == null) {
+            throw new ValidationException("Параметры afterStart и afterId передаются только вместе");
+        }
+        return query.find(userId, state, LocalDateTime.now(), afterStart, afterId, limit).stream()
                 .map(BookingMapper::toBookingResponseDto)
                 .collect(Collectors.toList());
     }
 
+    private Limit toLimit(int size) {
+        if (size <= 0) {
+            throw new ValidationException("Параметр size должен быть больше 0");
+        }
+        return Limit.of(size);
+    }
 
     private void validateBookingDates(BookingDto bookingDto) {
         if (bookingDto.getStart() == null || bookingDto.getEnd() == null) {
@@ -159,6 +335,35 @@ public class BookingServiceIml implements BookingService {
         }
     }
 
+    private void validateImport(List<BookingImportDto> bookingDtos) {
+        if (bookingDtos == null || bookingDtos.isEmpty()) {
+            throw new ValidationException("Список бронирований не может быть пустым");
+        }
+        if (bookingDtos.size() > MAX_IMPORT_SIZE) {
+            throw new ValidationException("За один запрос можно импортировать не более " + MAX_IMPORT_SIZE
+                    + " бронирований");
+        }
+        for (BookingImportDto bookingDto : bookingDtos) {
+            if (bookingDto == null || bookingDto.getStart() == null || bookingDto.getEnd() == null) {
+                throw new ValidationException("Даты начала и окончания бронирования обязательны");
+            }
+            if (bookingDto.getItemId() == null || bookingDto.getBookerId() == null) {
+                throw new ValidationException("ID вещи и арендатора обязательны");
+            }
+        }
+    }
+
+    private BookingStatus parseStatus(String status) {
+        if (status == null) {
+            return BookingStatus.APPROVED;
+        }
+        try {
+            return BookingStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Неизвестный статус бронирования: " + status);
+        }
+    }
+
     private BookingState parseState(String state) {
         try {
             return BookingState.valueOf(state.toUpperCase());
@@ -167,4 +372,9 @@ public class BookingServiceIml implements BookingService {
         }
     }
 
+    @FunctionalInterface
+    private interface PageQuery {
+        List<BookingView> find(Long userId, BookingState state, LocalDateTime now, LocalDateTime afterStart, Long afterId,
+                               Limit limit);
+    }
 }
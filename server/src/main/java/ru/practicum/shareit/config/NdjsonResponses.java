@@ -0,0 +1,33 @@
+package ru.practicum.shareit.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.experimental.UtilityClass;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+@UtilityClass
+public class NdjsonResponses {
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    /**
+     * A response that writes every object passed by {@code producer} as a separate JSON line.
+     * {@code producer} runs on the async request thread, so input validation has to happen before it.
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> of(ObjectMapper objectMapper,
+                                                               Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = out -> producer.accept(value -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(value));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+}
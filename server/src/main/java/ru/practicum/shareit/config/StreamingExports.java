@@ -0,0 +1,33 @@
+package ru.practicum.shareit.config;
+
+import jakarta.persistence.EntityManager;
+import lombok.experimental.UtilityClass;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@UtilityClass
+public class StreamingExports {
+    static final int CLEAR_INTERVAL = 500;
+
+    /**
+     * Passes every entity from {@code entities} through {@code mapper} to {@code consumer} and closes the stream.
+     * The persistence context is cleared every {@value #CLEAR_INTERVAL} rows so an export does not keep
+     * every entity it has read in memory. Call it inside the transaction the stream was opened in.
+     */
+    public static <E, T> void forEach(EntityManager entityManager, Stream<E> entities, Function<E, T> mapper,
+                                      Consumer<T> consumer) {
+        try (entities) {
+            Iterator<E> iterator = entities.iterator();
+            int exported = 0;
+            while (iterator.hasNext()) {
+                consumer.accept(mapper.apply(iterator.next()));
+                if (++exported % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+}
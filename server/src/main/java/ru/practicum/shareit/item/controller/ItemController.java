@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
+import ru.practicum.shareit.item.dto.OwnerItemSummaryDto;
 import ru.practicum.shareit.item.service.ItemService;
 
 import java.util.List;
@@ -26,6 +27,13 @@ public class ItemController {
         return itemService.createItem(itemDto, ownerId);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<ItemDto> createItems(@RequestBody List<ItemDto> itemDtos,
+                                     @RequestHeader("X-Sharer-User-Id") Long ownerId) {
+        return itemService.createItems(itemDtos, ownerId);
+    }
+
     @PatchMapping("/{itemId}")
     public ItemDto updateItem(@PathVariable Long itemId,
                               @RequestBody ItemDto itemDto,
@@ -42,9 +50,18 @@ public class ItemController {
     @GetMapping
     public List<ItemWithBookingsDto> getAllItemsByOwner(
             @RequestHeader("X-Sharer-User-Id") Long ownerId,
+            @RequestParam(required = false) Long afterId,
             @RequestParam(defaultValue = "0") int from,
             @RequestParam(defaultValue = "10") int size) {
-        return itemService.getAllItemsByOwner(ownerId, from, size);
+        return itemService.getAllItemsByOwner(ownerId, afterId, from, size);
+    }
+
+    @GetMapping("/dashboard")
+    public List<OwnerItemSummaryDto> getOwnerDashboard(
+            @RequestHeader("X-Sharer-User-Id") Long ownerId,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "10") int size) {
+        return itemService.getOwnerDashboard(ownerId, afterId, size);
     }
 
     @GetMapping("/search")
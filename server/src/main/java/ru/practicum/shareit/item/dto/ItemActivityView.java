@@ -0,0 +1,9 @@
+package ru.practicum.shareit.item.dto;
+
+public interface ItemActivityView {
+    Long getItemId();
+
+    Long getCommentCount();
+
+    Long getPendingCount();
+}
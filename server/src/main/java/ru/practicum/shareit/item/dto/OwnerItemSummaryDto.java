@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OwnerItemSummaryDto {
+    private Long id;
+    private String name;
+    private Boolean available;
+    private ItemWithBookingsDto.BookingInfoDto lastBooking;
+    private ItemWithBookingsDto.BookingInfoDto nextBooking;
+    private long commentCount;
+    private long pendingApprovalCount;
+}
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.item.dto;
+
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.OwnerItemSummary;
+
+public interface OwnerItemView {
+    Item getItem();
+
+    OwnerItemSummary getSummary();
+}
@@ -4,7 +4,9 @@ package ru.practicum.shareit.item.mapper;
 import lombok.experimental.UtilityClass;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
+import ru.practicum.shareit.item.dto.OwnerItemSummaryDto;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.OwnerItemReadModel.OwnerItem;
 import ru.practicum.shareit.user.model.User;
 
 @UtilityClass
@@ -33,6 +35,18 @@ public class ItemMapper {
         );
     }
 
+    public static OwnerItemSummaryDto toOwnerItemSummaryDto(OwnerItem ownerItem) {
+        return new OwnerItemSummaryDto(
+                ownerItem.item().getId(),
+                ownerItem.item().getName(),
+                ownerItem.item().getAvailable(),
+                ownerItem.nearest().last(),
+                ownerItem.nearest().next(),
+                ownerItem.commentCount(),
+                ownerItem.pendingCount()
+        );
+    }
+
     public static Item toItem(ItemDto itemDto, User owner) {
         Item item = new Item();
         item.setId(itemDto.getId());
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.item.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Denormalized owner counters of an item. The booking and comment write paths adjust them with conditional
+ * in-place updates; last/next bookings are not stored here and are resolved through {@code NearestBookingCache}.
+ */
+@Entity
+@Table(name = "owner_item_summaries")
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OwnerItemSummary {
+
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
+    @Column(name = "pending_count", nullable = false)
+    private long pendingCount;
+}
@@ -3,20 +3,30 @@ package ru.practicum.shareit.item.repository;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.item.model.Item;
 
 import java.util.List;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
-    List<Item> findByOwnerIdOrderById(Long ownerId, Pageable pageable);
-
     @Query("SELECT i FROM Item i WHERE i.available = true AND " +
             "(LOWER(i.name) LIKE LOWER(CONCAT('%', :text, '%')) OR " +
             "LOWER(i.description) LIKE LOWER(CONCAT('%', :text, '%')))")
     List<Item> searchAvailableItems(String text, Pageable pageable);
 
+    @Query(value = "SELECT i.* FROM items i WHERE i.is_available AND (" +
+            "i.search_vector @@ plainto_tsquery('simple', :text) OR " +
+            "lower(i.name) LIKE '%' || lower(:text) || '%' OR " +
+            "lower(i.description) LIKE '%' || lower(:text) || '%') " +
+            "ORDER BY ts_rank(i.search_vector, plainto_tsquery('simple', :text)) DESC, i.id",
+            nativeQuery = true)
+    List<Item> searchAvailableItemsFullText(@Param("text") String text, Pageable pageable);
+
     List<Item> findByRequestIdIn(List<Long> requestIds);
 
     List<Item> findByRequestId(Long requestId);
 
+    @Query("SELECT i.id FROM Item i WHERE i.owner.id = :ownerId ORDER BY i.id")
+    List<Long> findIdsByOwnerId(@Param("ownerId") Long ownerId, Pageable pageable);
+
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.item.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.item.dto.ItemActivityView;
+import ru.practicum.shareit.item.dto.OwnerItemView;
+import ru.practicum.shareit.item.model.OwnerItemSummary;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OwnerItemSummaryRepository extends JpaRepository<OwnerItemSummary, Long> {
+
+    @Query("SELECT i AS item, s AS summary FROM Item i LEFT JOIN OwnerItemSummary s ON s.itemId = i.id " +
+            "WHERE i.owner.id = :ownerId AND i.id > :afterId ORDER BY i.id")
+    List<OwnerItemView> findOwnerItems(@Param("ownerId") Long ownerId, @Param("afterId") Long afterId, Limit limit);
+
+    @Modifying
+    @Query("UPDATE OwnerItemSummary s SET s.pendingCount = s.pendingCount + :delta " +
+            "WHERE s.itemId = :itemId AND s.pendingCount + :delta >= 0")
+    int addPending(@Param("itemId") Long itemId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE OwnerItemSummary s SET s.commentCount = s.commentCount + 1 WHERE s.itemId = :itemId")
+    int incrementComments(@Param("itemId") Long itemId);
+
+    @Modifying
+    @Query(value = "UPDATE owner_item_summaries " +
+            "SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.item_id = owner_item_summaries.item_id), " +
+            "pending_count = (SELECT COUNT(*) FROM bookings b " +
+            "WHERE b.item_id = owner_item_summaries.item_id AND b.status = :status) " +
+            "WHERE item_id IN (:itemIds)", nativeQuery = true)
+    int recount(@Param("itemIds") Collection<Long> itemIds, @Param("status") String status);
+
+    @Query(value = "SELECT i.id AS \"itemId\", " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.item_id = i.id) AS \"commentCount\", " +
+            "(SELECT COUNT(*) FROM bookings b WHERE b.item_id = i.id AND b.status = :status) AS \"pendingCount\" " +
+            "FROM items i WHERE i.id IN (:itemIds)", nativeQuery = true)
+    List<ItemActivityView> countActivity(@Param("itemIds") Collection<Long> itemIds, @Param("status") String status);
+
+    @Query(value = "SELECT b.item_id FROM bookings b WHERE b.booker_id = :userId " +
+            "UNION SELECT c.item_id FROM comments c WHERE c.author_id = :userId " +
+            "UNION SELECT i.id FROM items i WHERE i.owner_id = :userId", nativeQuery = true)
+    List<Long> findItemIdsTouchedBy(@Param("userId") Long userId);
+}
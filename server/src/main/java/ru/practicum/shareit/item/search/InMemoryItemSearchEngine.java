@@ -0,0 +1,214 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "memory")
+public class InMemoryItemSearchEngine implements ItemSearchEngine {
+    private static final int GRAM_LENGTH = 3;
+    private static final long[] NO_POSTINGS = new long[0];
+
+    private final ItemRepository itemRepository;
+    private final Map<String, long[]> postings = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedItem> indexedItems = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        itemRepository.findAll().forEach(this::put);
+    }
+
+    @Override
+    public void index(Item item) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(item);
+            return;
+        }
+        IndexedItem indexedItem = IndexedItem.of(item);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(item.getId(), indexedItem);
+            }
+        });
+    }
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        String query = text.toLowerCase(Locale.ROOT);
+        List<Long> ids = new ArrayList<>();
+        long skip = pageable.getOffset();
+        for (long id : candidates(query)) {
+            IndexedItem indexedItem = indexedItems.get(id);
+            if (indexedItem == null || !indexedItem.matches(query)) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            ids.add(id);
+            if (ids.size() == pageable.getPageSize()) {
+                break;
+            }
+        }
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Item> items = itemRepository.findAllById(ids).stream()
+                .collect(toMap(Item::getId, Function.identity()));
+        ids.stream()
+                .filter(id -> !items.containsKey(id))
+                .forEach(this::remove);
+        return ids.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .collect(toList());
+    }
+
+    private long[] candidates(String query) {
+        List<long[]> lists = new ArrayList<>();
+        for (String gram : grams(query, Math.min(GRAM_LENGTH, query.length()))) {
+            long[] list = postings.getOrDefault(gram, NO_POSTINGS);
+            if (list.length == 0) {
+                return NO_POSTINGS;
+            }
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+
+        long[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private synchronized void put(Item item) {
+        put(item.getId(), IndexedItem.of(item));
+    }
+
+    private synchronized void put(Long id, IndexedItem indexedItem) {
+        IndexedItem previous = indexedItems.put(id, indexedItem);
+        Set<String> previousGrams = previous != null ? previous.grams() : Collections.emptySet();
+        Set<String> currentGrams = indexedItem.grams();
+
+        previousGrams.stream()
+                .filter(gram -> !currentGrams.contains(gram))
+                .forEach(gram -> postings.computeIfPresent(gram, (key, list) -> without(list, id)));
+        currentGrams.stream()
+                .filter(gram -> !previousGrams.contains(gram))
+                .forEach(gram -> postings.merge(gram, new long[]{id}, (list, single) -> with(list, id)));
+    }
+
+    private synchronized void remove(Long id) {
+        IndexedItem previous = indexedItems.remove(id);
+        if (previous != null) {
+            previous.grams().forEach(gram -> postings.computeIfPresent(gram, (key, list) -> without(list, id)));
+        }
+    }
+
+    private static Set<String> grams(String value, int length) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + length <= value.length(); i++) {
+            grams.add(value.substring(i, i + length));
+        }
+        return grams;
+    }
+
+    private static long[] with(long[] list, long id) {
+        int position = Arrays.binarySearch(list, id);
+        if (position >= 0) {
+            return list;
+        }
+        position = -position - 1;
+        long[] result = Arrays.copyOf(list, list.length + 1);
+        System.arraycopy(list, position, result, position + 1, list.length - position);
+        result[position] = id;
+        return result;
+    }
+
+    private static long[] without(long[] list, long id) {
+        int position = Arrays.binarySearch(list, id);
+        if (position < 0) {
+            return list;
+        }
+        if (list.length == 1) {
+            return null;
+        }
+        long[] result = new long[list.length - 1];
+        System.arraycopy(list, 0, result, 0, position);
+        System.arraycopy(list, position + 1, result, position, list.length - position - 1);
+        return result;
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private record IndexedItem(String name, String description, boolean available) {
+
+        static IndexedItem of(Item item) {
+            return new IndexedItem(item.getName().toLowerCase(Locale.ROOT),
+                    item.getDescription().toLowerCase(Locale.ROOT), Boolean.TRUE.equals(item.getAvailable()));
+        }
+
+        boolean matches(String query) {
+            return available && (name.contains(query) || description.contains(query));
+        }
+
+        Set<String> grams() {
+            if (!available) {
+                return Collections.emptySet();
+            }
+            Set<String> grams = new HashSet<>();
+            for (int length = 1; length <= GRAM_LENGTH; length++) {
+                grams.addAll(InMemoryItemSearchEngine.grams(name, length));
+                grams.addAll(InMemoryItemSearchEngine.grams(description, length));
+            }
+            return grams;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.item.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.comment.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
+import ru.practicum.shareit.item.dto.ItemWithBookingsDto.BookingInfoDto;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+@Component
+public class ItemDetailCache {
+    private final Cache<Long, ItemDetail> cache;
+
+    public ItemDetailCache(@Value("${shareit.cache.item-detail.max-size:10000}") long maxSize,
+                           @Value("${shareit.cache.item-detail.ttl:30s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public ItemDetail get(Long itemId, Function<Long, ItemDetail> loader) {
+        return cache.get(itemId, loader);
+    }
+
+    /**
+     * Evicts immediately so the current transaction reads its own writes, and once more after completion
+     * so a concurrent reader cannot leave a value loaded from the pre-commit state in the cache.
+     */
+    public void evict(Long itemId) {
+        cache.invalidate(itemId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(itemId);
+                }
+            });
+        }
+    }
+
+    public record ItemDetail(Long ownerId, ItemWithBookingsDto view) {
+
+        /**
+         * Copy of the cached view, comments included, with the given bookings. Callers get their own instance,
+         * so nothing they do to the result can change what other readers see.
+         */
+        public ItemWithBookingsDto copyView(BookingInfoDto lastBooking, BookingInfoDto nextBooking) {
+            List<CommentDto> comments = view.getComments() == null ? null : view.getComments().stream()
+                    .map(comment -> new CommentDto(comment.getId(), comment.getText(), comment.getAuthorName(),
+                            comment.getCreated()))
+                    .collect(toList());
+            return new ItemWithBookingsDto(view.getId(), view.getName(), view.getDescription(), view.getAvailable(),
+                    view.getRequestId(), copy(lastBooking), copy(nextBooking), comments);
+        }
+
+        private static BookingInfoDto copy(BookingInfoDto booking) {
+            return booking == null ? null : new BookingInfoDto(booking.getId(), booking.getBookerId());
+        }
+    }
+}
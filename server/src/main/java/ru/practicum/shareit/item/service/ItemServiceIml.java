@@ -17,18 +17,21 @@ import ru.practicum.shareit.exception.AccessDeniedException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
+import ru.practicum.shareit.item.dto.OwnerItemSummaryDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.NearestBookingCache.NearestBookings;
+import ru.practicum.shareit.item.service.OwnerItemReadModel.OwnerItem;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
@@ -37,22 +40,48 @@ import static java.util.stream.Collectors.toList;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ItemServiceIml implements ItemService {
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final UserExistenceChecker userExistenceChecker;
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
+    private final ItemSearchEngine itemSearchEngine;
+    private final ItemDetailCache itemDetailCache;
+    private final NearestBookingCache nearestBookingCache;
+    private final OwnerItemReadModel ownerItemReadModel;
 
     @Override
     @Transactional
     public ItemDto createItem(ItemDto itemDto, Long ownerId) {
-        User owner = userRepository.findById(ownerId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
+        User owner = userRepository.getReferenceById(userExistenceChecker.requireExisting(ownerId));
 
         Item item = ItemMapper.toItem(itemDto, owner);
         Item savedItem = itemRepository.save(item);
+        itemSearchEngine.index(savedItem);
+        ownerItemReadModel.itemsCreated(List.of(savedItem));
         return ItemMapper.toItemDto(savedItem);
     }
 
+    @Override
+    @Transactional
+    public List<ItemDto> createItems(List<ItemDto> itemDtos, Long ownerId) {
+        validateBatch(itemDtos);
+        User owner = userRepository.getReferenceById(userExistenceChecker.requireExisting(ownerId));
+
+        List<Item> items = itemDtos.stream()
+                .map(itemDto -> ItemMapper.toItem(itemDto, owner))
+                .collect(toList());
+        items.forEach(item -> item.setId(null));
+        List<Item> savedItems = itemRepository.saveAll(items);
+        savedItems.forEach(itemSearchEngine::index);
+        ownerItemReadModel.itemsCreated(savedItems);
+        return savedItems.stream()
+                .map(ItemMapper::toItemDto)
+                .collect(toList());
+    }
+
     @Override
     @Transactional
     public ItemDto updateItem(Long itemId, ItemDto itemDto, Long ownerId) {
@@ -77,97 +106,56 @@ public class ItemServiceIml implements ItemService {
         }
 
         Item updatedItem = itemRepository.save(existingItem);
+        itemSearchEngine.index(updatedItem);
+        itemDetailCache.evict(itemId);
         return ItemMapper.toItemDto(updatedItem);
     }
 
     @Override
     @Transactional(readOnly = true)
     public ItemWithBookingsDto getItemByIdWithBookings(Long itemId, Long userId) {
-
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new NotFoundException("Продукт не найден"));
-
-        ItemWithBookingsDto itemWithBookings = ItemMapper.toItemWithBookingsDto(item);
-
-        if (item.getOwner().getId().equals(userId)) {
-            LocalDateTime now = LocalDateTime.now();
-
-            Optional<Booking> lastBooking =
-                    bookingRepository.findLastBookingWithBooker(itemId, now, BookingStatus.APPROVED);
-            Optional<Booking> nextBooking =
-                    bookingRepository.findNextBookingWithBooker(itemId, now, BookingStatus.APPROVED);
-
-            lastBooking.ifPresent(booking -> itemWithBookings.setLastBooking(
-                    new ItemWithBookingsDto.BookingInfoDto(booking.getId(), booking.getBooker().getId())));
-
-            nextBooking.ifPresent(booking -> itemWithBookings.setNextBooking(
-                    new ItemWithBookingsDto.BookingInfoDto(booking.getId(), booking.getBooker().getId())));
+        ItemDetailCache.ItemDetail detail = itemDetailCache.get(itemId, this::loadItemDetail);
+        if (!detail.ownerId().equals(userId)) {
+            return detail.copyView(null, null);
         }
 
-        List<CommentDto> comments = commentRepository.findByItemIdOrderByCreatedDesc(itemId)
-                .stream()
-                .map(CommentMapper::toCommentDto)
-                .collect(toList());
-        itemWithBookings.setComments(comments);
-
-        return itemWithBookings;
+        NearestBookings nearestBookings = nearestBookingCache
+                .getAll(List.of(itemId), ownerItemReadModel::loadNearestBookings)
+                .get(itemId);
+        return detail.copyView(nearestBookings.last(), nearestBookings.next());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ItemWithBookingsDto> getAllItemsByOwner(Long ownerId, int from, int size) {
-        userRepository.findById(ownerId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
-
-        Pageable pageable = PageRequest.of(from / size, size);
-        List<Item> items = itemRepository.findByOwnerIdOrderById(ownerId, pageable);
-
-        if (items.isEmpty()) {
-            return Collections.emptyList();
+    public List<ItemWithBookingsDto> getAllItemsByOwner(Long ownerId, Long afterId, int from, int size) {
+        userExistenceChecker.requireExisting(ownerId);
+
+        Long cursor = afterId;
+        if (cursor == null && from > 0) {
+            // legacy offset paging: one id-only lookup on ix_items_owner_id turns "from" into a keyset cursor
+            List<Long> previous = itemRepository.findIdsByOwnerId(ownerId, PageRequest.of(from - 1, 1));
+            if (previous.isEmpty()) {
+                return Collections.emptyList();
+            }
+            cursor = previous.get(0);
         }
-
-        LocalDateTime now = LocalDateTime.now();
-        List<Long> itemIds = items.stream().map(Item::getId).collect(toList());
-
-        Map<Long, Booking> lastBookingsMap = bookingRepository
-                .findLastBookingsForItems(itemIds, now, BookingStatus.APPROVED)
-                .stream()
-                .collect(Collectors.toMap(
-                        booking -> booking.getItem().getId(),
-                        booking -> booking,
-                        (existing, replacement) -> existing
-                ));
-
-        Map<Long, Booking> nextBookingsMap = bookingRepository
-                .findNextBookingsForItems(itemIds, now, BookingStatus.APPROVED)
-                .stream()
-                .collect(Collectors.toMap(
-                        booking -> booking.getItem().getId(),
-                        booking -> booking,
-                        (existing, replacement) -> existing
-                ));
-
-        Map<Long, List<Comment>> commentsMap = commentRepository.findByItemIdInOrderByCreatedDesc(itemIds)
+        List<OwnerItem> ownerItems = ownerItemReadModel.getPage(ownerId, cursor, size);
+        List<Long> commentedItemIds = ownerItems.stream()
+                .filter(ownerItem -> ownerItem.commentCount() > 0)
+                .map(ownerItem -> ownerItem.item().getId())
+                .collect(toList());
+        Map<Long, List<Comment>> commentsMap = commentedItemIds.isEmpty() ? Collections.emptyMap()
+                : commentRepository.findByItemIdInOrderByCreatedDesc(commentedItemIds)
                 .stream()
                 .collect(groupingBy(comment -> comment.getItem().getId(), toList()));
 
-        return items.stream().map(item -> {
-            ItemWithBookingsDto itemWithBookings = ItemMapper.toItemWithBookingsDto(item);
-
-            Booking lastBooking = lastBookingsMap.get(item.getId());
-            if (lastBooking != null) {
-                itemWithBookings.setLastBooking(
-                        new ItemWithBookingsDto.BookingInfoDto(lastBooking.getId(), lastBooking.getBooker().getId()));
-            }
-
-
-            Booking nextBooking = nextBookingsMap.get(item.getId());
-            if (nextBooking != null) {
-                itemWithBookings.setNextBooking(
-                        new ItemWithBookingsDto.BookingInfoDto(nextBooking.getId(), nextBooking.getBooker().getId()));
-            }
+        return ownerItems.stream().map(ownerItem -> {
+            ItemWithBookingsDto itemWithBookings = ItemMapper.toItemWithBookingsDto(ownerItem.item());
+            itemWithBookings.setLastBooking(ownerItem.nearest().last());
+            itemWithBookings.setNextBooking(ownerItem.nearest().next());
 
-            List<CommentDto> commentDtos = commentsMap.getOrDefault(item.getId(), Collections.emptyList())
+            List<CommentDto> commentDtos = commentsMap.getOrDefault(ownerItem.item().getId(),
+                            Collections.emptyList())
                     .stream()
                     .map(CommentMapper::toCommentDto)
                     .collect(toList());
@@ -177,6 +165,16 @@ public class ItemServiceIml implements ItemService {
         }).collect(toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<OwnerItemSummaryDto> getOwnerDashboard(Long ownerId, Long afterId, int size) {
+        userExistenceChecker.requireExisting(ownerId);
+
+        return ownerItemReadModel.getPage(ownerId, afterId, size).stream()
+                .map(ItemMapper::toOwnerItemSummaryDto)
+                .collect(toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ItemDto> searchItems(String text, int from, int size) {
@@ -185,7 +183,7 @@ public class ItemServiceIml implements ItemService {
         }
 
         Pageable pageable = PageRequest.of(from / size, size);
-        return itemRepository.searchAvailableItems(text, pageable)
+        return itemSearchEngine.search(text, pageable)
                 .stream()
                 .map(ItemMapper::toItemDto)
                 .collect(toList());
@@ -209,6 +207,42 @@ public class ItemServiceIml implements ItemService {
 
         Comment comment = CommentMapper.toCommentFromCreate(commentDto, item, author);
         Comment savedComment = commentRepository.save(comment);
+        itemDetailCache.evict(itemId);
+        ownerItemReadModel.commentAdded(itemId);
         return CommentMapper.toCommentDto(savedComment);
     }
+
+    private void validateBatch(List<ItemDto> itemDtos) {
+        if (itemDtos == null || itemDtos.isEmpty()) {
+            throw new ValidationException("Список вещей не может быть пустым");
+        }
+        if (itemDtos.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("За один запрос можно создать не более " + MAX_BATCH_SIZE + " вещей");
+        }
+        for (ItemDto itemDto : itemDtos) {
+            if (itemDto == null || itemDto.getName() == null || itemDto.getName().isBlank()) {
+                throw new ValidationException("Название не может быть пустым");
+            }
+            if (itemDto.getDescription() == null || itemDto.getDescription().isBlank()) {
+                throw new ValidationException("Описание не может быть пустым");
+            }
+            if (itemDto.getAvailable() == null) {
+                throw new ValidationException("Статус доступности не может быть null");
+            }
+        }
+    }
+
+    private ItemDetailCache.ItemDetail loadItemDetail(Long itemId) {
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new NotFoundException("Продукт не найден"));
+
+        List<CommentDto> comments = commentRepository.findByItemIdOrderByCreatedDesc(itemId)
+                .stream()
+                .map(CommentMapper::toCommentDto)
+                .collect(toList());
+
+        ItemWithBookingsDto view = ItemMapper.toItemWithBookingsDto(item);
+        view.setComments(comments);
+        return new ItemDetailCache.ItemDetail(item.getOwner().getId(), view);
+    }
 }
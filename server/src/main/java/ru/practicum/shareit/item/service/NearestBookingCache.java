@@ -0,0 +1,85 @@
+package ru.practicum.shareit.item.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.dto.ItemWithBookingsDto.BookingInfoDto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Component
+public class NearestBookingCache {
+    private final Cache<Long, NearestBookings> cache;
+
+    public NearestBookingCache(@Value("${shareit.cache.nearest-bookings.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilNextStart())
+                .build();
+    }
+
+    /**
+     * The loader must return an entry for every requested id, including items without bookings.
+     */
+    public Map<Long, NearestBookings> getAll(Collection<Long> itemIds,
+                                             Function<Collection<Long>, Map<Long, NearestBookings>> loader) {
+        return cache.getAll(itemIds, missing -> loader.apply(List.copyOf(missing)));
+    }
+
+    public void evict(Long itemId) {
+        cache.invalidate(itemId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(itemId);
+                }
+            });
+        }
+    }
+
+    public record NearestBookings(BookingInfoDto last, BookingInfoDto next, LocalDateTime nextStart) {
+        public static final NearestBookings NONE = new NearestBookings(null, null, null);
+    }
+
+    /**
+     * Last/next only shift by time when the clock reaches the next booking's start; every other change
+     * goes through a booking write that evicts the entry.
+     */
+    private static final class UntilNextStart implements Expiry<Long, NearestBookings> {
+        private static final Duration MAX_DURATION = Duration.ofNanos(Long.MAX_VALUE);
+
+        @Override
+        public long expireAfterCreate(Long itemId, NearestBookings value, long currentTime) {
+            if (value.nextStart() == null) {
+                return Long.MAX_VALUE;
+            }
+            Duration untilStart = Duration.between(LocalDateTime.now(), value.nextStart());
+            if (untilStart.compareTo(MAX_DURATION) > 0) {
+                return Long.MAX_VALUE;
+            }
+            return Math.max(0, untilStart.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(Long itemId, NearestBookings value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(itemId, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long itemId, NearestBookings value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
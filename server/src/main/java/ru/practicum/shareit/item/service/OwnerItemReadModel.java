@@ -0,0 +1,142 @@
+package ru.practicum.shareit.item.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.dto.NearestBookingView;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.ItemActivityView;
+import ru.practicum.shareit.item.dto.ItemWithBookingsDto.BookingInfoDto;
+import ru.practicum.shareit.item.dto.OwnerItemView;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.OwnerItemSummary;
+import ru.practicum.shareit.item.repository.OwnerItemSummaryRepository;
+import ru.practicum.shareit.item.service.NearestBookingCache.NearestBookings;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Owner view of items backed by the owner_item_summaries table. Write paths adjust its counters inside their
+ * own transaction; reads take items and counters in one keyset query, resolve last/next bookings through
+ * {@link NearestBookingCache} and only fall back to the booking and comment tables for items without a summary.
+ */
+@Component
+@RequiredArgsConstructor
+public class OwnerItemReadModel {
+    private final OwnerItemSummaryRepository summaryRepository;
+    private final BookingRepository bookingRepository;
+    private final NearestBookingCache nearestBookingCache;
+    private final EntityManager entityManager;
+
+    public void itemsCreated(Collection<Item> items) {
+        items.forEach(item -> entityManager.persist(new OwnerItemSummary(item.getId(), 0, 0)));
+    }
+
+    /**
+     * Items the user owns, booked or commented on. Their bookings and comments disappear with the user through
+     * ON DELETE CASCADE, so the caller has to collect these before the delete and {@link #recount} them after.
+     */
+    public List<Long> findItemIdsTouchedBy(Long userId) {
+        return summaryRepository.findItemIdsTouchedBy(userId);
+    }
+
+    /**
+     * Applies per-item pending-approval deltas in place. The update is conditional on the counter staying
+     * non-negative, and concurrent writers only serialize on the single summary row they touch.
+     */
+    public void pendingChanged(Map<Long, Long> deltaByItem) {
+        deltaByItem.forEach((itemId, delta) -> {
+            if (delta != 0) {
+                summaryRepository.addPending(itemId, delta);
+            }
+        });
+    }
+
+    public void commentAdded(Long itemId) {
+        summaryRepository.incrementComments(itemId);
+    }
+
+    /**
+     * Recounts the counters from the booking and comment tables. Only for paths that remove rows in bulk,
+     * such as ON DELETE CASCADE on user removal, where no per-row delta is available.
+     */
+    public void recount(Collection<Long> itemIds) {
+        entityManager.flush();
+        summaryRepository.recount(itemIds, BookingStatus.WAITING.name());
+    }
+
+    /**
+     * Keyset page of the owner's items ordered by id; pass {@code null} as {@code afterId} for the first page.
+     * Counters come from the summary row, last/next bookings from {@link NearestBookingCache}.
+     */
+    public List<OwnerItem> getPage(Long ownerId, Long afterId, int size) {
+        List<OwnerItemView> views = summaryRepository.findOwnerItems(ownerId, afterId == null ? 0L : afterId,
+                Limit.of(size));
+        if (views.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> itemIds = views.stream()
+                .map(view -> view.getItem().getId())
+                .collect(toList());
+        List<Long> missing = views.stream()
+                .filter(view -> view.getSummary() == null)
+                .map(view -> view.getItem().getId())
+                .collect(toList());
+        Map<Long, ItemActivityView> activity = missing.isEmpty() ? Map.of()
+                : summaryRepository.countActivity(missing, BookingStatus.WAITING.name()).stream()
+                .collect(toMap(ItemActivityView::getItemId, Function.identity()));
+        Map<Long, NearestBookings> nearest = nearestBookingCache.getAll(itemIds, this::loadNearestBookings);
+
+        return views.stream().map(view -> {
+            Item item = view.getItem();
+            OwnerItemSummary summary = view.getSummary();
+            NearestBookings bookings = nearest.get(item.getId());
+            if (summary != null) {
+                return new OwnerItem(item, bookings, summary.getCommentCount(), summary.getPendingCount());
+            }
+            ItemActivityView counts = activity.get(item.getId());
+            return new OwnerItem(item, bookings, counts.getCommentCount(), counts.getPendingCount());
+        }).collect(toList());
+    }
+
+    /**
+     * Returns an entry for every requested id, so it can be used as a {@link NearestBookingCache} loader.
+     */
+    public Map<Long, NearestBookings> loadNearestBookings(Collection<Long> itemIds) {
+        Map<Long, NearestBookings> result = new HashMap<>();
+        itemIds.forEach(itemId -> result.put(itemId, NearestBookings.NONE));
+        bookingRepository.findLastAndNextBookingsForItems(
+                        itemIds, LocalDateTime.now(), BookingStatus.APPROVED.name())
+                .forEach(booking -> result.merge(booking.getItemId(), toNearestBookings(booking), this::combine));
+        return result;
+    }
+
+    private NearestBookings toNearestBookings(NearestBookingView booking) {
+        BookingInfoDto bookingInfo = new BookingInfoDto(booking.getId(), booking.getBookerId());
+        if (NearestBookingView.LAST.equals(booking.getKind())) {
+            return new NearestBookings(bookingInfo, null, null);
+        }
+        return new NearestBookings(null, bookingInfo, booking.getStart());
+    }
+
+    private NearestBookings combine(NearestBookings left, NearestBookings right) {
+        return new NearestBookings(
+                left.last() != null ? left.last() : right.last(),
+                left.next() != null ? left.next() : right.next(),
+                left.nextStart() != null ? left.nextStart() : right.nextStart());
+    }
+
+    public record OwnerItem(Item item, NearestBookings nearest, long commentCount, long pendingCount) {
+    }
+}
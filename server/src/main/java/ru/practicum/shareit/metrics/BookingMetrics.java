@@ -0,0 +1,23 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+@Component
+@RequiredArgsConstructor
+public class BookingMetrics {
+    static final String TRANSITIONS = "shareit.booking.transitions";
+
+    private final MeterRegistry meterRegistry;
+
+    public void transition(BookingStatus from, BookingStatus to) {
+        Counter.builder(TRANSITIONS)
+                .tag("from", from.name())
+                .tag("to", to.name())
+                .register(meterRegistry)
+                .increment();
+    }
+}
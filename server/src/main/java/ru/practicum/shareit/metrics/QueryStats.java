@@ -0,0 +1,47 @@
+package ru.practicum.shareit.metrics;
+
+public final class QueryStats {
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+    private long jdbcNanos;
+
+    static QueryStats begin() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    void statementPrepared() {
+        statements++;
+    }
+
+    void entityLoaded() {
+        entityLoads++;
+    }
+
+    void jdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+}
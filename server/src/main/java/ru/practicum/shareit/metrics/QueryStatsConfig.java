@@ -0,0 +1,28 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QueryStatsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryStatsSessionListener.class.getName());
+            properties.put(AvailableSettings.INTERCEPTOR, new QueryStatsInterceptor());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryStatsFilter> queryStatsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${shareit.query-stats.statement-threshold:10}") int statementThreshold) {
+        return new FilterRegistrationBean<>(new QueryStatsFilter(meterRegistry, statementThreshold));
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class QueryStatsFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+    private final int statementThreshold;
+
+    public QueryStatsFilter(MeterRegistry meterRegistry, int statementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementThreshold = statementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStats.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("shareit.http.statements").tags(tags).register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("shareit.http.entity.loads").tags(tags).register(meterRegistry)
+                .record(stats.getEntityLoads());
+        Timer.builder("shareit.http.jdbc.time").tags(tags).register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() > statementThreshold) {
+            log.warn("{} {} выполнил {} SQL-запросов (порог {}), загружено сущностей: {}", request.getMethod(), uri,
+                    stats.getStatements(), statementThreshold, stats.getEntityLoads());
+        }
+    }
+}
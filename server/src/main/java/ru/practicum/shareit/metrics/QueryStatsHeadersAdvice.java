@@ -0,0 +1,39 @@
+package ru.practicum.shareit.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+@ControllerAdvice
+@ConditionalOnProperty(name = "shareit.query-stats.headers", havingValue = "true")
+public class QueryStatsHeadersAdvice implements ResponseBodyAdvice<Object> {
+    static final String STATEMENTS_HEADER = "X-Query-Count";
+    static final String ENTITY_LOADS_HEADER = "X-Entity-Load-Count";
+    static final String JDBC_TIME_HEADER = "X-Jdbc-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+            response.getHeaders().set(ENTITY_LOADS_HEADER, String.valueOf(stats.getEntityLoads()));
+            response.getHeaders().set(JDBC_TIME_HEADER,
+                    String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos())));
+        }
+        return body;
+    }
+}
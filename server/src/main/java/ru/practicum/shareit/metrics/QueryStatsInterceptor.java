@@ -0,0 +1,16 @@
+package ru.practicum.shareit.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+public class QueryStatsInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.entityLoaded();
+        }
+        return false;
+    }
+}
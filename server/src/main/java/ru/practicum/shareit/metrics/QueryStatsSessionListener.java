@@ -0,0 +1,43 @@
+package ru.practicum.shareit.metrics;
+
+import org.hibernate.SessionEventListener;
+
+public class QueryStatsSessionListener implements SessionEventListener {
+    private long executeStarted;
+    private long batchStarted;
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.statementPrepared();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStarted = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        addJdbcTime(executeStarted);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStarted = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        addJdbcTime(batchStarted);
+    }
+
+    private static void addJdbcTime(long started) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.jdbcTime(System.nanoTime() - started);
+        }
+    }
+}
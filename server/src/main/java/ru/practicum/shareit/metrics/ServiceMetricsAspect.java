@@ -0,0 +1,71 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.exception.AccessDeniedException;
+import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.exception.EmailAlreadyExistsException;
+import ru.practicum.shareit.exception.NotFoundException;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+    static final String TIMER_NAME = "shareit.service.calls";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * ru.practicum.shareit.booking.service.BookingService.*(..)) || " +
+            "execution(public * ru.practicum.shareit.item.service.ItemService.*(..)) || " +
+            "execution(public * ru.practicum.shareit.request.service.ItemRequestService.*(..)) || " +
+            "execution(public * ru.practicum.shareit.user.service.UserService.*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .tag("service", serviceName(joinPoint.getSignature().getDeclaringType()))
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String serviceName(Class<?> type) {
+        for (Class<?> serviceInterface : type.getInterfaces()) {
+            if (serviceInterface.getSimpleName().endsWith("Service")) {
+                return serviceInterface.getSimpleName();
+            }
+        }
+        return type.getSimpleName();
+    }
+
+    static String outcome(Throwable e) {
+        if (e instanceof NotFoundException) {
+            return "NotFound";
+        }
+        if (e instanceof AccessDeniedException) {
+            return "AccessDenied";
+        }
+        if (e instanceof ru.practicum.shareit.exception.ValidationException
+                || e instanceof jakarta.validation.ValidationException
+                || e instanceof IllegalArgumentException) {
+            return "Validation";
+        }
+        if (e instanceof ConflictException || e instanceof EmailAlreadyExistsException) {
+            return "Conflict";
+        }
+        return "Error";
+    }
+}
@@ -17,6 +17,7 @@ import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -28,6 +29,7 @@ import java.util.stream.Collectors;
 public class ItemRequestServiceIml implements ItemRequestService {
     private final ItemRequestRepository itemRequestRepository;
     private final UserRepository userRepository;
+    private final UserExistenceChecker userExistenceChecker;
     private final ItemRepository itemRepository;
 
     @Override
@@ -37,8 +39,7 @@ public class ItemRequestServiceIml implements ItemRequestService {
             throw new ValidationException("Описание запроса не может быть пустым");
         }
 
-        User requestor = userRepository.findById(requestorId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
+        User requestor = userRepository.getReferenceById(userExistenceChecker.requireExisting(requestorId));
 
         ItemRequest itemRequest = ItemRequestMapper.toItemRequest(itemRequestDto, requestor);
         itemRequest.setCreated(LocalDateTime.now());
@@ -49,8 +50,7 @@ public class ItemRequestServiceIml implements ItemRequestService {
 
     @Override
     public List<ItemRequestDto> getAllRequestsByRequestor(Long requestorId) {
-        userRepository.findById(requestorId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
+        userExistenceChecker.requireExisting(requestorId);
 
         List<ItemRequest> requests = itemRequestRepository.findByRequestorIdOrderByCreatedDesc(requestorId);
         List<Long> requestIds = requests.stream().map(ItemRequest::getId).collect(Collectors.toList());
@@ -66,8 +66,7 @@ public class ItemRequestServiceIml implements ItemRequestService {
 
     @Override
     public List<ItemRequestDto> getAllRequests(Long userId, int from, int size) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
+        userExistenceChecker.requireExisting(userId);
 
         if (from < 0 || size <= 0) {
             throw new ValidationException("Параметры пагинации должны быть from >= 0 и size > 0");
@@ -88,8 +87,7 @@ public class ItemRequestServiceIml implements ItemRequestService {
 
     @Override
     public ItemRequestDto getRequestById(Long requestId, Long userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
+        userExistenceChecker.requireExisting(userId);
 
         ItemRequest itemRequest = itemRequestRepository.findById(requestId)
                 .orElseThrow(() -> new NotFoundException("Запрос не найден"));
@@ -1,10 +1,14 @@
 package ru.practicum.shareit.user.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.config.NdjsonResponses;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
@@ -16,6 +20,7 @@ import java.util.List;
 @Validated
 public class UserController {
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -34,8 +39,17 @@ public class UserController {
     }
 
     @GetMapping
-    public List<UserDto> getAllUsers() {
-        return userService.getAllUsers();
+    public List<UserDto> getAllUsers(@RequestParam(required = false) Long afterId,
+                                     @RequestParam(required = false) Integer size) {
+        if (size == null) {
+            return userService.getAllUsers();
+        }
+        return userService.getAllUsers(afterId, size);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return NdjsonResponses.<UserDto>of(objectMapper, userService::exportUsers);
     }
 
     @DeleteMapping("/{userId}")
@@ -0,0 +1,124 @@
+package ru.practicum.shareit.user.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Stream;
+
+/**
+ * Counting Bloom filter over normalized emails. {@code false} from {@link #mightContain} means the email is
+ * definitely free, so the uniqueness query can be skipped; {@code true} still has to be confirmed by the database.
+ * Until the initial load finishes every email is reported as possibly present.
+ */
+@Component
+public class EmailFilter {
+    private static final int HASH_FUNCTIONS = 4;
+
+    private final UserRepository userRepository;
+    private final AtomicIntegerArray counters;
+    private volatile boolean loaded;
+
+    public EmailFilter(UserRepository userRepository,
+                       @Value("${shareit.users.email-filter.counters:1048576}") int counters) {
+        this.userRepository = userRepository;
+        this.counters = new AtomicIntegerArray(counters);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emails.forEach(email -> update(email, 1));
+        }
+        loaded = true;
+    }
+
+    public boolean mightContain(String email) {
+        if (!loaded) {
+            return true;
+        }
+        int[] slots = slots(email);
+        for (int slot : slots) {
+            if (counters.get(slot) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the email right away so concurrent writers stop skipping the database check, and takes it back
+     * if the surrounding transaction does not commit.
+     */
+    public void add(String email) {
+        update(email, 1);
+        afterCompletion(committed -> {
+            if (!committed) {
+                update(email, -1);
+            }
+        });
+    }
+
+    /**
+     * Forgets the email only after commit: removing it earlier could report a still-taken email as free.
+     */
+    public void remove(String email) {
+        afterCompletion(committed -> {
+            if (committed) {
+                update(email, -1);
+            }
+        });
+    }
+
+    private void afterCompletion(CompletionCallback callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.completed(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.completed(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private void update(String email, int delta) {
+        for (int slot : slots(email)) {
+            counters.getAndUpdate(slot, count -> Math.max(count + delta, 0));
+        }
+    }
+
+    private int[] slots(String email) {
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        int first = normalized.hashCode();
+        int second = fnv1a(normalized) | 1;
+        int[] slots = new int[HASH_FUNCTIONS];
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            slots[i] = Math.floorMod(first + i * second, counters.length());
+        }
+        return slots;
+    }
+
+    private static int fnv1a(String value) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
+
+    @FunctionalInterface
+    private interface CompletionCallback {
+        void completed(boolean committed);
+    }
+}
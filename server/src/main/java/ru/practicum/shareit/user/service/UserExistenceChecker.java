@@ -0,0 +1,57 @@
+package ru.practicum.shareit.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.Duration;
+
+/**
+ * Checks that a user exists without loading the entity: known ids are kept in memory and the rest go through
+ * {@code existsById}. Only ids that were found are remembered, so a freshly created user is visible at once.
+ * An id is kept for at most {@code shareit.cache.user-ids.ttl}, so a delete on another instance, or one racing
+ * with a local lookup, becomes visible within that time.
+ */
+@Component
+public class UserExistenceChecker {
+    private final UserRepository userRepository;
+    private final Cache<Long, Boolean> knownIds;
+
+    public UserExistenceChecker(UserRepository userRepository,
+                                @Value("${shareit.cache.user-ids.max-size:100000}") long maxSize,
+                                @Value("${shareit.cache.user-ids.ttl:30s}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.knownIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean exists(Long userId) {
+        return knownIds.get(userId, id -> userRepository.existsById(id) ? Boolean.TRUE : null) != null;
+    }
+
+    public Long requireExisting(Long userId) {
+        if (!exists(userId)) {
+            throw new NotFoundException("Пользователь не найден");
+        }
+        return userId;
+    }
+
+    public void evict(Long userId) {
+        knownIds.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    knownIds.invalidate(userId);
+                }
+            });
+        }
+    }
+}
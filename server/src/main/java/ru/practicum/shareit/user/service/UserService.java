@@ -4,6 +4,7 @@ import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserService {
     UserDto createUser(UserDto userDto);
@@ -16,5 +17,9 @@ public interface UserService {
 
     List<UserDto> getAllUsers();
 
+    List<UserDto> getAllUsers(Long afterId, int size);
+
+    void exportUsers(Consumer<UserDto> consumer);
+
     void deleteUser(Long userId);
 }
@@ -1,46 +1,70 @@
 package ru.practicum.shareit.user.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.service.BookingIntervalIndex;
+import ru.practicum.shareit.config.StreamingExports;
 import ru.practicum.shareit.exception.EmailAlreadyExistsException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.service.ItemDetailCache;
+import ru.practicum.shareit.item.service.NearestBookingCache;
+import ru.practicum.shareit.item.service.OwnerItemReadModel;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserServiceIml implements UserService {
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final UserRepository userRepository;
+    private final UserExistenceChecker userExistenceChecker;
+    private final EmailFilter emailFilter;
+    private final EntityManager entityManager;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final OwnerItemReadModel ownerItemReadModel;
+    private final ItemDetailCache itemDetailCache;
+    private final NearestBookingCache nearestBookingCache;
 
     @Override
     @Transactional
     public UserDto createUser(UserDto userDto) {
-        if (userRepository.existsByEmail(userDto.getEmail())) {
+        if (emailFilter.mightContain(userDto.getEmail()) && userRepository.existsByEmail(userDto.getEmail())) {
             throw new EmailAlreadyExistsException("Пользователь с таким email уже существует");
         }
 
         User user = UserMapper.toUser(userDto);
-        User savedUser = userRepository.save(user);
+        User savedUser = saveUnique(user);
+        emailFilter.add(savedUser.getEmail());
         return UserMapper.toUserDto(savedUser);
     }
 
     @Override
+    @Transactional
     public UserDto updateUser(Long userId, UserDto userDto) {
         User existingUser = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
+        String previousEmail = existingUser.getEmail();
 
         if (userDto.getEmail() != null &&
                 !userDto.getEmail().isBlank() &&
-                !existingUser.getEmail().equals(userDto.getEmail())) {
+                !previousEmail.equals(userDto.getEmail())) {
 
-            if (userRepository.existsByEmailAndIdNot(userDto.getEmail(), userId)) {
+            if (emailFilter.mightContain(userDto.getEmail())
+                    && userRepository.existsByEmailAndIdNot(userDto.getEmail(), userId)) {
                 throw new EmailAlreadyExistsException("Пользователь с таким email уже существует");
             }
             existingUser.setEmail(userDto.getEmail());
@@ -50,7 +74,11 @@ public class UserServiceIml implements UserService {
             existingUser.setName(userDto.getName());
         }
 
-        User updatedUser = userRepository.save(existingUser);
+        User updatedUser = saveUnique(existingUser);
+        if (!previousEmail.equals(updatedUser.getEmail())) {
+            emailFilter.add(updatedUser.getEmail());
+            emailFilter.remove(previousEmail);
+        }
         return UserMapper.toUserDto(updatedUser);
     }
 
@@ -75,29 +103,53 @@ public class UserServiceIml implements UserService {
     }
 
     @Override
-    @Transactional
-    public void deleteUser(Long userId) {
-        if (!userRepository.existsById(userId)) {
-            throw new NotFoundException("Пользователь не найден");
+    public List<UserDto> getAllUsers(Long afterId, int size) {
+        if (size <= 0) {
+            throw new ValidationException("Параметр size должен быть больше 0");
         }
-        userRepository.deleteById(userId);
+        if (size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Параметр size должен быть не больше " + MAX_PAGE_SIZE);
+        }
+        return userRepository.findByIdGreaterThanOrderByIdAsc(afterId == null ? 0L : afterId, Limit.of(size))
+                .stream()
+                .map(UserMapper::toUserDto)
+                .collect(Collectors.toList());
     }
 
-    private void checkEmailExists(String email, Long userId) {
-        boolean emailExists;
+    @Override
+    public void exportUsers(Consumer<UserDto> consumer) {
+        StreamingExports.forEach(entityManager, userRepository.streamAll(), UserMapper::toUserDto, consumer);
+    }
 
-        if (userId == null) {
-            emailExists = userRepository.findAll().stream()
-                    .anyMatch(user -> user.getEmail().equalsIgnoreCase(email));
-        } else {
-            emailExists = userRepository.findAll().stream()
-                    .filter(user -> !user.getId().equals(userId))
-                    .anyMatch(user -> user.getEmail().equalsIgnoreCase(email));
+    @Override
+    @Transactional
+    public void deleteUser(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
+        List<Long> touchedItemIds = ownerItemReadModel.findItemIdsTouchedBy(userId);
+        bookingIntervalIndex.releaseParticipant(userId);
+        userRepository.delete(user);
+        userExistenceChecker.evict(userId);
+        emailFilter.remove(user.getEmail());
+
+        if (!touchedItemIds.isEmpty()) {
+            ownerItemReadModel.recount(touchedItemIds);
+            touchedItemIds.forEach(itemId -> {
+                itemDetailCache.evict(itemId);
+                nearestBookingCache.evict(itemId);
+            });
         }
+    }
 
-        if (emailExists) {
-            throw new EmailAlreadyExistsException("Пользователь с таким email уже существует");
+    private User saveUnique(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            String cause = String.valueOf(e.getMostSpecificCause().getMessage()).toUpperCase(Locale.ROOT);
+            if (cause.contains("UQ_USER_EMAIL")) {
+                throw new EmailAlreadyExistsException("Пользователь с таким email уже существует");
+            }
+            throw e;
         }
     }
 }
-
@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS owner_item_summaries (
+    item_id BIGINT NOT NULL,
+    last_booking_id BIGINT,
+    last_booker_id BIGINT,
+    next_booking_id BIGINT,
+    next_booker_id BIGINT,
+    nearest_valid_until TIMESTAMP WITHOUT TIME ZONE,
+    comment_count BIGINT NOT NULL DEFAULT 0,
+    pending_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_owner_item_summary PRIMARY KEY (item_id),
+    CONSTRAINT fk_owner_item_summary_item FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE
+);
+
+INSERT INTO owner_item_summaries (item_id, nearest_valid_until, comment_count, pending_count)
+SELECT i.id,
+       CURRENT_TIMESTAMP,
+       (SELECT COUNT(*) FROM comments c WHERE c.item_id = i.id),
+       (SELECT COUNT(*) FROM bookings b WHERE b.item_id = i.id AND b.status = 'WAITING')
+FROM items i
+WHERE NOT EXISTS (SELECT 1 FROM owner_item_summaries s WHERE s.item_id = i.id);
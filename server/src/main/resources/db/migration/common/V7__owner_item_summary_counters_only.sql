@@ -0,0 +1,9 @@
+ALTER TABLE owner_item_summaries DROP COLUMN IF EXISTS last_booking_id;
+
+ALTER TABLE owner_item_summaries DROP COLUMN IF EXISTS last_booker_id;
+
+ALTER TABLE owner_item_summaries DROP COLUMN IF EXISTS next_booking_id;
+
+ALTER TABLE owner_item_summaries DROP COLUMN IF EXISTS next_booker_id;
+
+ALTER TABLE owner_item_summaries DROP COLUMN IF EXISTS nearest_valid_until;
@@ -0,0 +1,5 @@
+CREATE SEQUENCE IF NOT EXISTS items_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE items_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM items);
+
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE bookings_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM bookings);
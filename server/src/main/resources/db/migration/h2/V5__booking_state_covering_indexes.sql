@@ -0,0 +1,5 @@
+DROP INDEX IF EXISTS ix_bookings_booker_start;
+
+CREATE INDEX IF NOT EXISTS ix_bookings_booker_start_id ON bookings (booker_id, start_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS ix_bookings_item_start_id ON bookings (item_id, start_date DESC, id DESC);
@@ -0,0 +1,11 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE items ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(name, '') || ' ' || coalesce(description, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS ix_items_search_vector ON items USING gin (search_vector) WHERE is_available;
+
+CREATE INDEX IF NOT EXISTS ix_items_name_trgm ON items USING gin (lower(name) gin_trgm_ops) WHERE is_available;
+
+CREATE INDEX IF NOT EXISTS ix_items_description_trgm ON items USING gin (lower(description) gin_trgm_ops)
+    WHERE is_available;
@@ -0,0 +1,5 @@
+CREATE SEQUENCE IF NOT EXISTS items_seq INCREMENT BY 50;
+SELECT setval('items_seq', COALESCE((SELECT MAX(id) FROM items), 0) + 50, false);
+
+CREATE SEQUENCE IF NOT EXISTS bookings_seq INCREMENT BY 50;
+SELECT setval('bookings_seq', COALESCE((SELECT MAX(id) FROM bookings), 0) + 50, false);
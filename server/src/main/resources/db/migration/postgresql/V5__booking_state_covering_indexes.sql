@@ -0,0 +1,7 @@
+DROP INDEX IF EXISTS ix_bookings_booker_start;
+
+CREATE INDEX IF NOT EXISTS ix_bookings_booker_start_id
+    ON bookings (booker_id, start_date DESC, id DESC) INCLUDE (end_date, status, item_id);
+
+CREATE INDEX IF NOT EXISTS ix_bookings_item_start_id
+    ON bookings (item_id, start_date DESC, id DESC) INCLUDE (end_date, status, booker_id);
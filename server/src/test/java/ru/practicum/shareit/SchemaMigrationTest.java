@@ -0,0 +1,32 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class SchemaMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrations_shouldCreateHotPathIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT LOWER(index_name) FROM information_schema.indexes", String.class);
+
+        assertThat(indexes).contains(
+                "ix_bookings_booker_start_id",
+                "ix_bookings_item_start_id",
+                "ix_bookings_item_status_start",
+                "ix_items_owner_id",
+                "ix_items_request",
+                "ix_comments_item_created",
+                "ix_requests_requestor_created");
+    }
+}
@@ -0,0 +1,140 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingApprovalResultDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BookingApprovalConcurrencyTest {
+    private static final int BOOKINGS = 20;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private User booker;
+    private Item item;
+    private final List<Booking> bookings = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "Race Owner", "race-owner@email.com"));
+        booker = userRepository.save(new User(null, "Race Booker", "race-booker@email.com"));
+        item = itemRepository.save(new Item(null, "Дрель", "Описание", true, owner, null));
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < BOOKINGS; i++) {
+            bookings.add(bookingRepository.save(new Booking(null, start.plusDays(i * 2L),
+                    start.plusDays(i * 2L + 1), item, booker, BookingStatus.WAITING)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll(bookings);
+        itemRepository.delete(item);
+        userRepository.deleteAll(List.of(owner, booker));
+    }
+
+    @Test
+    void approveBooking_concurrentDecisions_shouldLetExactlyOneWin() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Booking booking : bookings) {
+                CountDownLatch startGate = new CountDownLatch(1);
+                List<Future<BookingStatus>> decisions = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    boolean approved = i % 2 == 0;
+                    decisions.add(executor.submit(decide(startGate, booking.getId(), approved)));
+                }
+                startGate.countDown();
+
+                List<BookingStatus> winners = new ArrayList<>();
+                for (Future<BookingStatus> decision : decisions) {
+                    BookingStatus status = decision.get();
+                    if (status != null) {
+                        winners.add(status);
+                    }
+                }
+
+                assertThat(winners).hasSize(1);
+                assertThat(bookingRepository.findById(booking.getId()).orElseThrow().getStatus())
+                        .isEqualTo(winners.get(0));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void approveBookings_concurrentSameDecision_shouldReportEachBookingOnce() throws Exception {
+        List<Long> bookingIds = bookings.stream().map(Booking::getId).toList();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch startGate = new CountDownLatch(1);
+            List<Future<List<BookingApprovalResultDto>>> calls = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                calls.add(executor.submit(() -> {
+                    startGate.await();
+                    return bookingService.approveBookings(bookingIds, owner.getId(), true);
+                }));
+            }
+            startGate.countDown();
+
+            Map<Long, Integer> successes = new HashMap<>();
+            for (Future<List<BookingApprovalResultDto>> call : calls) {
+                call.get().stream()
+                        .filter(result -> result.getError() == null)
+                        .forEach(result -> successes.merge(result.getBookingId(), 1, Integer::sum));
+            }
+
+            assertThat(successes).containsOnlyKeys(bookingIds);
+            assertThat(successes.values()).containsOnly(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Callable<BookingStatus> decide(CountDownLatch startGate, Long bookingId, boolean approved) {
+        return () -> {
+            startGate.await();
+            try {
+                return BookingStatus.valueOf(bookingService.approveBooking(bookingId, owner.getId(), approved)
+                        .getStatus());
+            } catch (ValidationException e) {
+                return null;
+            }
+        };
+    }
+}
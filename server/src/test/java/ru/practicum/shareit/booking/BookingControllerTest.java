@@ -6,16 +6,25 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.practicum.shareit.booking.controller.BookingController;
+import ru.practicum.shareit.booking.dto.BookingApprovalResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.exception.NotFoundException;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -110,6 +119,36 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.status").value("APPROVED"));
     }
 
+    @Test
+    void approveBookings_shouldReturnPerBookingResults() throws Exception {
+        when(bookingService.approveBookings(eq(List.of(1L, 2L)), eq(1L), eq(true))).thenReturn(List.of(
+                new BookingApprovalResultDto(1L, BookingStatus.APPROVED, null),
+                new BookingApprovalResultDto(2L, null, "Бронирование не найдено")));
+
+        mockMvc.perform(patch("/bookings/approve")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bookingIds\":[1,2],\"approved\":true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("APPROVED"))
+                .andExpect(jsonPath("$[1].error").value("Бронирование не найдено"));
+    }
+
+    @Test
+    void approveBookings_withMissingDecisionOrIds_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(patch("/bookings/approve")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bookingIds\":[1,2]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/bookings/approve")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bookingIds\":[],\"approved\":true}"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(bookingService);
+    }
+
     @Test
     void getBookingById_withNonExistentBooking_shouldReturnNotFound() throws Exception {
         when(bookingService.getBookingById(eq(999L), eq(1L)))
@@ -155,4 +194,59 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.status").value("REJECTED"));
     }
 
+    @Test
+    void getAllBookingsByOwner_withSize_shouldUseKeysetPage() throws Exception {
+        LocalDateTime afterStart = LocalDateTime.of(2030, 1, 1, 12, 0);
+        BookingResponseDto responseDto = new BookingResponseDto(
+                1L, afterStart.minusDays(1), afterStart,
+                new BookingResponseDto.Item(1L, "Дрель"), new BookingResponseDto.Booker(2L), "WAITING");
+
+        when(bookingService.getAllBookingsByOwner(eq(1L), eq("ALL"), eq(afterStart), eq(5L), eq(20)))
+                .thenReturn(List.of(responseDto));
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("afterStart", "2030-01-01T12:00:00")
+                        .param("afterId", "5")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L));
+    }
+
+    @Test
+    void exportBookingsByOwner_shouldStreamNdjsonLines() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 12, 0);
+        doAnswer(invocation -> {
+            Consumer<BookingResponseDto> consumer = invocation.getArgument(1);
+            consumer.accept(new BookingResponseDto(2L, start, start.plusDays(1),
+                    new BookingResponseDto.Item(1L, "Дрель"), new BookingResponseDto.Booker(2L), "APPROVED"));
+            consumer.accept(new BookingResponseDto(1L, start.minusDays(3), start.minusDays(2),
+                    new BookingResponseDto.Item(1L, "Дрель"), new BookingResponseDto.Booker(3L), "REJECTED"));
+            return null;
+        }).when(bookingService).exportBookingsByOwner(eq(1L), any());
+
+        MvcResult result = mockMvc.perform(get("/bookings/owner/export")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String[] lines = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"id\":2", "\"status\":\"APPROVED\"");
+        assertThat(lines[1]).contains("\"id\":1", "\"status\":\"REJECTED\"");
+    }
+
+    @Test
+    void exportBookingsByOwner_withUnknownOwner_shouldReturnNotFound() throws Exception {
+        doThrow(new NotFoundException("Пользователь не найден")).when(bookingService).checkUserExists(99L);
+
+        mockMvc.perform(get("/bookings/owner/export")
+                        .header("X-Sharer-User-Id", 99L))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
 }
@@ -0,0 +1,128 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.dto.BookingApprovalView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingIntervalIndex;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingIntervalIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @InjectMocks
+    private BookingIntervalIndex index;
+
+    private final User owner = new User(1L, "Owner", "owner@email.com");
+    private final User booker = new User(2L, "Booker", "booker@email.com");
+    private final Item item = new Item(1L, "Дрель", "Описание", true, owner, null);
+
+    @Test
+    void isFree_withoutBookings_shouldReturnTrue() {
+        assertThat(index.isFree(1L, BASE, BASE.plusDays(1))).isTrue();
+    }
+
+    @Test
+    void tryReserve_withOverlappingPeriod_shouldReject() {
+        assertThat(index.tryReserve(booking(1L, 0, 3))).isTrue();
+
+        assertThat(index.tryReserve(booking(2L, 2, 4))).isFalse();
+        assertThat(index.tryReserve(booking(3L, -1, 1))).isFalse();
+        assertThat(index.tryReserve(booking(4L, 1, 2))).isFalse();
+        assertThat(index.isFree(1L, BASE.plusDays(3), BASE.plusDays(4))).isTrue();
+        assertThat(index.isFree(1L, BASE.minusDays(1), BASE)).isTrue();
+    }
+
+    @Test
+    void release_shouldFreeSlot() {
+        index.tryReserve(booking(1L, 0, 3));
+
+        index.release(1L, 1L);
+
+        assertThat(index.isFree(1L, BASE, BASE.plusDays(3))).isTrue();
+    }
+
+    @Test
+    void releaseParticipant_shouldFreeSlotsOfDeletedUsersBookings() {
+        index.tryReserve(booking(1L, 0, 3));
+        BookingApprovalView active = mock(BookingApprovalView.class);
+        when(active.getId()).thenReturn(1L);
+        when(active.getItemId()).thenReturn(1L);
+        when(bookingRepository.findActiveByParticipant(eq(2L), anyCollection(), any())).thenReturn(List.of(active));
+
+        index.releaseParticipant(2L);
+
+        assertThat(index.isFree(1L, BASE, BASE.plusDays(3))).isTrue();
+    }
+
+    @Test
+    void isFree_shouldDropPeriodsThatHaveEnded() {
+        LocalDateTime now = LocalDateTime.now();
+        index.tryReserve(new Booking(1L, now.minusDays(3), now.minusDays(1), item, booker, BookingStatus.APPROVED));
+        index.tryReserve(booking(2L, 0, 3));
+
+        assertThat(index.isFree(1L, now.minusDays(2), now.minusDays(1))).isTrue();
+        assertThat(index.isFree(1L, BASE, BASE.plusDays(1))).isFalse();
+    }
+
+    @Test
+    void warmUp_shouldDetectOverlapBehindLongerEarlierBooking() {
+        when(bookingRepository.findByStatusInAndEndAfter(anyCollection(), any())).thenReturn(List.of(
+                booking(1L, 0, 10),
+                booking(2L, 2, 3),
+                booking(3L, 12, 13)));
+
+        index.warmUp();
+
+        assertThat(index.isFree(1L, BASE.plusDays(5), BASE.plusDays(6))).isFalse();
+        assertThat(index.isFree(1L, BASE.plusDays(10), BASE.plusDays(12))).isTrue();
+        assertThat(index.isFree(2L, BASE.plusDays(5), BASE.plusDays(6))).isTrue();
+    }
+
+    @Test
+    void warmUp_shouldKeepReservationsMadeBeforeItRuns() {
+        Item otherItem = new Item(2L, "Пила", "Описание", true, owner, null);
+        Booking early = booking(5L, 20, 21);
+        index.tryReserve(early);
+        index.tryReserve(new Booking(6L, BASE, BASE.plusDays(1), otherItem, booker, BookingStatus.WAITING));
+        when(bookingRepository.findByStatusInAndEndAfter(anyCollection(), any())).thenReturn(List.of(
+                booking(1L, 0, 3),
+                early));
+
+        index.warmUp();
+
+        assertThat(index.isFree(1L, BASE.plusDays(20), BASE.plusDays(21))).isFalse();
+        assertThat(index.isFree(1L, BASE.plusDays(1), BASE.plusDays(2))).isFalse();
+        assertThat(index.isFree(2L, BASE, BASE.plusDays(1))).isFalse();
+        assertThat(index.tryReserve(booking(7L, 20, 22))).isFalse();
+
+        index.release(1L, 5L);
+
+        assertThat(index.isFree(1L, BASE.plusDays(20), BASE.plusDays(21))).isTrue();
+    }
+
+    private Booking booking(Long id, int startDay, int endDay) {
+        return new Booking(id, BASE.plusDays(startDay), BASE.plusDays(endDay), item, booker, BookingStatus.WAITING);
+    }
+}
@@ -0,0 +1,136 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BookingQueryCountTest {
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private static final LocalDateTime OPEN_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final long OPEN_ID = Long.MAX_VALUE;
+
+    private User owner;
+    private User booker;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        owner = em.persist(new User(null, "Owner", "owner@email.com"));
+        LocalDateTime start = LocalDateTime.now().minusDays(10);
+        for (int i = 0; i < 3; i++) {
+            booker = em.persist(new User(null, "Booker" + i, "booker" + i + "@email.com"));
+            Item item = em.persist(new Item(null, "Вещь" + i, "Описание", true, owner, null));
+            for (int j = 0; j < 3; j++) {
+                em.persist(new Booking(null, start.plusDays(i * 3 + j), start.plusDays(i * 3 + j + 1),
+                        item, booker, BookingStatus.APPROVED));
+            }
+        }
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findOwnerPage_shouldMapAllRowsWithSingleStatement() {
+        List<BookingResponseDto> result = mapInSingleStatement(() -> bookingRepository.findOwnerPage(owner.getId(),
+                BookingState.ALL, LocalDateTime.now(), OPEN_START, OPEN_ID, Limit.unlimited()));
+
+        assertThat(result).hasSize(9);
+    }
+
+    @Test
+    void findBookerPage_shouldMapAllRowsWithSingleStatement() {
+        List<BookingResponseDto> result = mapInSingleStatement(() -> bookingRepository.findBookerPage(booker.getId(),
+                BookingState.ALL, LocalDateTime.now(), OPEN_START, OPEN_ID, Limit.unlimited()));
+
+        assertThat(result).hasSize(3);
+    }
+
+    @Test
+    void findOwnerPage_withCursor_shouldContinueAfterLastRow() {
+        List<BookingResponseDto> firstPage = mapInSingleStatement(() -> bookingRepository.findOwnerPage(
+                owner.getId(), BookingState.ALL, LocalDateTime.now(), OPEN_START, OPEN_ID, Limit.of(5)));
+        BookingResponseDto last = firstPage.get(4);
+        statistics.clear();
+
+        List<BookingResponseDto> secondPage = mapInSingleStatement(() -> bookingRepository.findOwnerPage(
+                owner.getId(), BookingState.ALL, LocalDateTime.now(), last.getStart(), last.getId(), Limit.of(5)));
+
+        assertThat(firstPage).hasSize(5);
+        assertThat(secondPage).hasSize(4);
+        assertThat(secondPage.get(0).getStart()).isBefore(last.getStart());
+    }
+
+    @Test
+    void findOwnerPage_withPastState_shouldMapAllRowsWithSingleStatement() {
+        List<BookingResponseDto> result = mapInSingleStatement(() -> bookingRepository.findOwnerPage(
+                owner.getId(), BookingState.PAST, LocalDateTime.now(), OPEN_START, OPEN_ID, Limit.unlimited()));
+
+        assertThat(result).hasSize(9);
+    }
+
+    @Test
+    void findOwnerPage_shouldRunEachStateThroughItsOwnQuery() {
+        Item item = em.persist(new Item(null, "Вещь", "Описание", true, owner, null));
+        em.persist(new Booking(null, LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1),
+                item, booker, BookingStatus.WAITING));
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        Map<BookingState, Integer> sizes = new EnumMap<>(BookingState.class);
+        for (BookingState state : BookingState.values()) {
+            sizes.put(state, bookingRepository.findOwnerPage(owner.getId(), state, LocalDateTime.now(),
+                    OPEN_START, OPEN_ID, Limit.of(20)).size());
+        }
+
+        assertThat(sizes).containsExactlyInAnyOrderEntriesOf(Map.of(BookingState.ALL, 10, BookingState.CURRENT, 1,
+                BookingState.PAST, 9, BookingState.FUTURE, 0, BookingState.WAITING, 1, BookingState.REJECTED, 0));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(BookingState.values().length);
+        // WAITING and REJECTED share the status query with a different bound value
+        assertThat(statistics.getQueries()).hasSize(BookingState.values().length - 1);
+    }
+
+    private List<BookingResponseDto> mapInSingleStatement(Supplier<List<BookingView>> query) {
+        List<BookingResponseDto> result = query.get().stream()
+                .map(BookingMapper::toBookingResponseDto)
+                .collect(Collectors.toList());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        return result;
+    }
+}
@@ -1,28 +1,47 @@
 package ru.practicum.shareit.booking;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.booking.dto.BookingApprovalResultDto;
+import ru.practicum.shareit.booking.dto.BookingApprovalView;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingImportDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingIntervalIndex;
 import ru.practicum.shareit.booking.service.BookingServiceIml;
+import ru.practicum.shareit.exception.AccessDeniedException;
+import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.OwnerItemSummary;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.NearestBookingCache;
+import ru.practicum.shareit.item.service.OwnerItemReadModel;
+import ru.practicum.shareit.metrics.BookingMetrics;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
-@Import(BookingServiceIml.class)
+@Import({BookingServiceIml.class, BookingIntervalIndex.class, BookingMetrics.class, SimpleMeterRegistry.class,
+        NearestBookingCache.class, UserExistenceChecker.class, OwnerItemReadModel.class})
 class BookingServiceIntegrationTest {
 
     @Autowired
@@ -35,6 +54,8 @@ class BookingServiceIntegrationTest {
     private ItemRepository itemRepository;
     @Autowired
     private BookingRepository bookingRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     private User owner;
     private User booker;
@@ -60,11 +81,10 @@ class BookingServiceIntegrationTest {
 
     @Test
     void createBooking_shouldSaveBookingToDatabase() {
-        ru.practicum.shareit.booking.dto.BookingDto bookingDto =
-                new ru.practicum.shareit.booking.dto.BookingDto(null,
-                        LocalDateTime.now().plusDays(3),
-                        LocalDateTime.now().plusDays(4),
-                        item.getId(), null, null);
+        BookingDto bookingDto = new BookingDto(null,
+                LocalDateTime.now().plusDays(3),
+                LocalDateTime.now().plusDays(4),
+                item.getId(), null, null);
 
         BookingResponseDto result = bookingService.createBooking(bookingDto, booker.getId());
 
@@ -78,6 +98,23 @@ class BookingServiceIntegrationTest {
         assertThat(savedBooking.getBooker().getId()).isEqualTo(booker.getId());
     }
 
+    @Test
+    void createBooking_withOverlappingPeriod_shouldThrowConflictException() {
+        BookingDto first = new BookingDto(null,
+                LocalDateTime.now().plusDays(3),
+                LocalDateTime.now().plusDays(5),
+                item.getId(), null, null);
+        BookingDto overlapping = new BookingDto(null,
+                LocalDateTime.now().plusDays(4),
+                LocalDateTime.now().plusDays(6),
+                item.getId(), null, null);
+
+        bookingService.createBooking(first, booker.getId());
+
+        assertThatThrownBy(() -> bookingService.createBooking(overlapping, booker.getId()))
+                .isInstanceOf(ConflictException.class);
+    }
+
     @Test
     void getBookingById_shouldReturnBooking() {
         BookingResponseDto result = bookingService.getBookingById(booking.getId(), booker.getId());
@@ -103,8 +140,60 @@ class BookingServiceIntegrationTest {
         assertThat(result.get(0).getId()).isEqualTo(booking.getId());
     }
 
+    @Test
+    void getAllBookingsByBooker_withKeyset_shouldReturnPagesInStartDescOrder() {
+        LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusDays(10);
+        for (int i = 0; i < 4; i++) {
+            bookingRepository.save(new Booking(null, start.plusDays(i), start.plusDays(i).plusHours(1),
+                    item, booker, BookingStatus.WAITING));
+        }
+
+        List<BookingResponseDto> firstPage =
+                bookingService.getAllBookingsByBooker(booker.getId(), "ALL", null, null, 2);
+        BookingResponseDto last = firstPage.get(firstPage.size() - 1);
+        List<BookingResponseDto> secondPage = bookingService.getAllBookingsByBooker(
+                booker.getId(), "ALL", last.getStart(), last.getId(), 2);
+        BookingResponseDto lastOfSecond = secondPage.get(secondPage.size() - 1);
+        List<BookingResponseDto> thirdPage = bookingService.getAllBookingsByBooker(
+                booker.getId(), "ALL", lastOfSecond.getStart(), lastOfSecond.getId(), 2);
+
+        assertThat(firstPage).extracting(BookingResponseDto::getStart)
+                .containsExactly(start.plusDays(3), start.plusDays(2));
+        assertThat(secondPage).extracting(BookingResponseDto::getStart)
+                .containsExactly(start.plusDays(1), start);
+        assertThat(thirdPage).extracting(BookingResponseDto::getId)
+                .containsExactly(booking.getId());
+    }
+
+    @Test
+    void getAllBookingsByOwner_withKeysetAndState_shouldFilterByState() {
+        bookingRepository.save(new Booking(null, LocalDateTime.now().plusDays(10),
+                LocalDateTime.now().plusDays(11), item, booker, BookingStatus.REJECTED));
+
+        List<BookingResponseDto> result =
+                bookingService.getAllBookingsByOwner(owner.getId(), "REJECTED", null, null, 10);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getStatus()).isEqualTo(BookingStatus.REJECTED.toString());
+    }
+
+    @Test
+    void findActiveByParticipant_shouldReturnBookingsAsBookerAndOnOwnedItems() {
+        bookingRepository.save(new Booking(null, LocalDateTime.now().minusDays(3), LocalDateTime.now().minusDays(2),
+                item, booker, BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(null, LocalDateTime.now().plusDays(5), LocalDateTime.now().plusDays(6),
+                item, booker, BookingStatus.REJECTED));
+        List<BookingStatus> active = List.of(BookingStatus.WAITING, BookingStatus.APPROVED);
+
+        assertThat(bookingRepository.findActiveByParticipant(booker.getId(), active, LocalDateTime.now()))
+                .extracting(BookingApprovalView::getId).containsExactly(booking.getId());
+        assertThat(bookingRepository.findActiveByParticipant(owner.getId(), active, LocalDateTime.now()))
+                .extracting(BookingApprovalView::getItemId).containsExactly(item.getId());
+    }
+
     @Test
     void approveBooking_shouldUpdateBookingStatus() {
+        double transitionsBefore = approvedTransitions();
         BookingResponseDto result = bookingService.approveBooking(booking.getId(), owner.getId(), true);
 
         assertThat(result).isNotNull();
@@ -112,5 +201,114 @@ class BookingServiceIntegrationTest {
 
         Booking updatedBooking = em.find(Booking.class, booking.getId());
         assertThat(updatedBooking.getStatus()).isEqualTo(BookingStatus.APPROVED);
+        assertThat(approvedTransitions() - transitionsBefore).isEqualTo(1.0);
+    }
+
+    @Test
+    void createAndApproveBooking_shouldKeepOwnerItemSummaryCurrent() {
+        BookingDto bookingDto = new BookingDto(null,
+                LocalDateTime.now().plusDays(3),
+                LocalDateTime.now().plusDays(4),
+                item.getId(), null, null);
+        em.persist(new OwnerItemSummary(item.getId(), 0, 1));
+
+        bookingService.createBooking(bookingDto, booker.getId());
+        em.flush();
+        em.clear();
+        assertThat(em.find(OwnerItemSummary.class, item.getId()).getPendingCount()).isEqualTo(2);
+
+        bookingService.approveBooking(booking.getId(), owner.getId(), true);
+        em.flush();
+        em.clear();
+
+        assertThat(em.find(OwnerItemSummary.class, item.getId()).getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void approveBookings_shouldUpdateOwnBookingsAndReportOthers() {
+        User stranger = userRepository.save(new User(null, "Stranger", "stranger@email.com"));
+        Item foreignItem = itemRepository.save(new Item(null, "Пила", "Ручная пила", true, stranger, null));
+        Booking second = bookingRepository.save(new Booking(null, LocalDateTime.now().plusDays(3),
+                LocalDateTime.now().plusDays(4), item, booker, BookingStatus.WAITING));
+        Booking processed = bookingRepository.save(new Booking(null, LocalDateTime.now().plusDays(5),
+                LocalDateTime.now().plusDays(6), item, booker, BookingStatus.REJECTED));
+        Booking foreign = bookingRepository.save(new Booking(null, LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2), foreignItem, booker, BookingStatus.WAITING));
+        double transitionsBefore = approvedTransitions();
+
+        List<BookingApprovalResultDto> results = bookingService.approveBookings(
+                List.of(booking.getId(), second.getId(), processed.getId(), foreign.getId(), 999L),
+                owner.getId(), true);
+
+        assertThat(results).extracting(BookingApprovalResultDto::getBookingId)
+                .containsExactly(booking.getId(), second.getId(), processed.getId(), foreign.getId(), 999L);
+        assertThat(results).extracting(BookingApprovalResultDto::getError).containsExactly(null, null,
+                "Бронирование уже обработано", "Только владелец вещи может подтверждать бронирование",
+                "Бронирование не найдено");
+        assertThat(bookingRepository.findById(booking.getId()).orElseThrow().getStatus())
+                .isEqualTo(BookingStatus.APPROVED);
+        assertThat(bookingRepository.findById(second.getId()).orElseThrow().getStatus())
+                .isEqualTo(BookingStatus.APPROVED);
+        assertThat(bookingRepository.findById(foreign.getId()).orElseThrow().getStatus())
+                .isEqualTo(BookingStatus.WAITING);
+        assertThat(approvedTransitions() - transitionsBefore).isEqualTo(2.0);
+    }
+
+    @Test
+    void importBookings_shouldSaveHistoricalBookingsAndReserveActiveOnes() {
+        List<BookingResponseDto> result = bookingService.importBookings(List.of(
+                new BookingImportDto(LocalDateTime.now().minusDays(10), LocalDateTime.now().minusDays(9),
+                        item.getId(), booker.getId(), null),
+                new BookingImportDto(LocalDateTime.now().plusDays(10), LocalDateTime.now().plusDays(11),
+                        item.getId(), booker.getId(), "WAITING")), owner.getId());
+
+        assertThat(result).extracting(BookingResponseDto::getStatus).containsExactly("APPROVED", "WAITING");
+        assertThat(bookingRepository.findByItemIdAndBookerIdAndEndBeforeAndStatus(item.getId(), booker.getId(),
+                LocalDateTime.now(), BookingStatus.APPROVED)).hasSize(1);
+        assertThatThrownBy(() -> bookingService.createBooking(new BookingDto(null,
+                LocalDateTime.now().plusDays(10), LocalDateTime.now().plusDays(12), item.getId(), null, null),
+                userRepository.save(new User(null, "Other", "other@email.com")).getId()))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void importBookings_forForeignItem_shouldThrowAccessDeniedException() {
+        List<BookingImportDto> bookings = List.of(new BookingImportDto(LocalDateTime.now().minusDays(10),
+                LocalDateTime.now().minusDays(9), item.getId(), booker.getId(), null));
+
+        assertThatThrownBy(() -> bookingService.importBookings(bookings, booker.getId()))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void exportBookingsByOwner_shouldStreamAllOwnerBookingsNewestFirst() {
+        Item secondItem = itemRepository.save(new Item(null, "Пила", "Ручная пила", true, owner, null));
+        Booking past = bookingRepository.save(new Booking(null, LocalDateTime.now().minusDays(5),
+                LocalDateTime.now().minusDays(4), secondItem, booker, BookingStatus.APPROVED));
+        Booking future = bookingRepository.save(new Booking(null, LocalDateTime.now().plusDays(7),
+                LocalDateTime.now().plusDays(8), item, booker, BookingStatus.REJECTED));
+        User stranger = userRepository.save(new User(null, "Stranger", "stranger@email.com"));
+        Item foreignItem = itemRepository.save(new Item(null, "Молоток", "Чужой молоток", true, stranger, null));
+        bookingRepository.save(new Booking(null, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
+                foreignItem, booker, BookingStatus.WAITING));
+        em.flush();
+        em.clear();
+
+        List<BookingResponseDto> exported = new ArrayList<>();
+        bookingService.exportBookingsByOwner(owner.getId(), exported::add);
+
+        assertThat(exported).extracting(BookingResponseDto::getId)
+                .containsExactly(future.getId(), booking.getId(), past.getId());
+        assertThat(exported.get(2).getItem().getName()).isEqualTo("Пила");
+    }
+
+    @Test
+    void checkUserExists_withUnknownUser_shouldThrowNotFoundException() {
+        assertThatThrownBy(() -> bookingService.checkUserExists(999L))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    private double approvedTransitions() {
+        return meterRegistry.counter("shareit.booking.transitions", "from", "WAITING", "to", "APPROVED").count();
     }
 }
@@ -5,21 +5,32 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.dto.BookingApprovalResultDto;
+import ru.practicum.shareit.booking.dto.BookingApprovalView;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingImportDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingIntervalIndex;
 import ru.practicum.shareit.booking.service.BookingServiceIml;
 import ru.practicum.shareit.exception.AccessDeniedException;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.NearestBookingCache;
+import ru.practicum.shareit.item.service.OwnerItemReadModel;
+import ru.practicum.shareit.metrics.BookingMetrics;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -34,7 +45,17 @@ class BookingServiceUnitTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private UserExistenceChecker userExistenceChecker;
+    @Mock
     private ItemRepository itemRepository;
+    @Mock
+    private BookingIntervalIndex bookingIntervalIndex;
+    @Mock
+    private BookingMetrics bookingMetrics;
+    @Mock
+    private NearestBookingCache nearestBookingCache;
+    @Mock
+    private OwnerItemReadModel ownerItemReadModel;
 
     @InjectMocks
     private BookingServiceIml bookingService;
@@ -46,7 +67,8 @@ class BookingServiceUnitTest {
                 LocalDateTime.now().plusDays(2),
                 1L, null, null);
 
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(userExistenceChecker.requireExisting(999L))
+                .thenThrow(new NotFoundException("Пользователь не найден"));
 
         assertThatThrownBy(() -> bookingService.createBooking(bookingDto, 999L))
                 .isInstanceOf(NotFoundException.class)
@@ -61,7 +83,8 @@ class BookingServiceUnitTest {
                 999L, null, null);
         User booker = new User(1L, "Booker", "booker@email.com");
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(booker));
+        when(userExistenceChecker.requireExisting(1L)).thenReturn(1L);
+        when(userRepository.getReferenceById(1L)).thenReturn(booker);
         when(itemRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> bookingService.createBooking(bookingDto, 1L))
@@ -79,7 +102,8 @@ class BookingServiceUnitTest {
         User owner = new User(2L, "Owner", "owner@email.com");
         Item item = new Item(1L, "Дрель", "Описание", false, owner, null);
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(booker));
+        when(userExistenceChecker.requireExisting(1L)).thenReturn(1L);
+        when(userRepository.getReferenceById(1L)).thenReturn(booker);
         when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
 
         assertThatThrownBy(() -> bookingService.createBooking(bookingDto, 1L))
@@ -96,7 +120,8 @@ class BookingServiceUnitTest {
         User owner = new User(1L, "Owner", "owner@email.com");
         Item item = new Item(1L, "Дрель", "Описание", true, owner, null);
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
+        when(userExistenceChecker.requireExisting(1L)).thenReturn(1L);
+        when(userRepository.getReferenceById(1L)).thenReturn(owner);
         when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
 
         assertThatThrownBy(() -> bookingService.createBooking(bookingDto, 1L))
@@ -141,9 +166,12 @@ class BookingServiceUnitTest {
         Booking savedBooking = new Booking(1L, bookingDto.getStart(), bookingDto.getEnd(),
                 item, booker, BookingStatus.WAITING);
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(booker));
+        when(userExistenceChecker.requireExisting(1L)).thenReturn(1L);
+        when(userRepository.getReferenceById(1L)).thenReturn(booker);
         when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(bookingIntervalIndex.isFree(1L, bookingDto.getStart(), bookingDto.getEnd())).thenReturn(true);
         when(bookingRepository.save(any(Booking.class))).thenReturn(savedBooking);
+        when(bookingIntervalIndex.tryReserve(savedBooking)).thenReturn(true);
 
         BookingResponseDto result = bookingService.createBooking(bookingDto, 1L);
 
@@ -153,6 +181,28 @@ class BookingServiceUnitTest {
         verify(bookingRepository, times(1)).save(any(Booking.class));
     }
 
+    @Test
+    void createBooking_withOverlappingPeriod_shouldThrowConflictException() {
+        BookingDto bookingDto = new BookingDto(null,
+                LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2),
+                1L, null, null);
+        User booker = new User(1L, "Booker", "booker@email.com");
+        User owner = new User(2L, "Owner", "owner@email.com");
+        Item item = new Item(1L, "Дрель", "Описание", true, owner, null);
+
+        when(userExistenceChecker.requireExisting(1L)).thenReturn(1L);
+        when(userRepository.getReferenceById(1L)).thenReturn(booker);
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(bookingIntervalIndex.isFree(1L, bookingDto.getStart(), bookingDto.getEnd())).thenReturn(false);
+
+        assertThatThrownBy(() -> bookingService.createBooking(bookingDto, 1L))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage("Вещь уже забронирована на указанные даты");
+
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
     @Test
     void getBookingById_withUnauthorizedUser_shouldThrowAccessDeniedException() {
         User owner = new User(1L, "Owner", "owner@email.com");
@@ -184,7 +234,7 @@ class BookingServiceUnitTest {
                 item, booker, BookingStatus.WAITING);
 
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
-        when(userRepository.existsById(3L)).thenReturn(true);
+        when(userExistenceChecker.exists(3L)).thenReturn(true);
 
         assertThatThrownBy(() -> bookingService.approveBooking(1L, 3L, true))
                 .isInstanceOf(ValidationException.class)
@@ -202,7 +252,7 @@ class BookingServiceUnitTest {
                 item, booker, BookingStatus.APPROVED);
 
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
-        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userExistenceChecker.exists(1L)).thenReturn(true);
 
         assertThatThrownBy(() -> bookingService.approveBooking(1L, 1L, true))
                 .isInstanceOf(ValidationException.class)
@@ -220,10 +270,89 @@ class BookingServiceUnitTest {
                 item, booker, BookingStatus.REJECTED);
 
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
-        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userExistenceChecker.exists(1L)).thenReturn(true);
 
         assertThatThrownBy(() -> bookingService.approveBooking(1L, 1L, true))
                 .isInstanceOf(ValidationException.class)
                 .hasMessage("Бронирование уже обработано");
     }
+
+    @Test
+    void approveBooking_whenConcurrentDecisionWins_shouldThrowValidationException() {
+        User owner = new User(1L, "Owner", "owner@email.com");
+        User booker = new User(2L, "Booker", "booker@email.com");
+        Item item = new Item(1L, "Дрель", "Описание", true, owner, null);
+        Booking booking = new Booking(1L,
+                LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2),
+                item, booker, BookingStatus.WAITING);
+
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(userExistenceChecker.exists(1L)).thenReturn(true);
+        when(bookingRepository.updateStatus(List.of(1L), BookingStatus.WAITING, BookingStatus.APPROVED))
+                .thenReturn(0);
+
+        assertThatThrownBy(() -> bookingService.approveBooking(1L, 1L, true))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Бронирование уже обработано");
+        verifyNoInteractions(bookingMetrics);
+    }
+
+    @Test
+    void approveBookings_whenConcurrentApprovalWinsRow_shouldReportItAsProcessed() {
+        BookingApprovalView first = approvalView(1L, BookingStatus.WAITING);
+        BookingApprovalView second = approvalView(2L, BookingStatus.WAITING);
+        BookingApprovalView secondAfterRace = mock(BookingApprovalView.class);
+        when(secondAfterRace.getId()).thenReturn(2L);
+        when(secondAfterRace.getStatus()).thenReturn(BookingStatus.APPROVED);
+        when(userExistenceChecker.exists(1L)).thenReturn(true);
+        when(bookingRepository.findApprovalViews(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(bookingRepository.updateStatusEach(List.of(1L, 2L), BookingStatus.WAITING, BookingStatus.APPROVED))
+                .thenReturn(List.of(1L));
+        when(bookingRepository.findApprovalViews(List.of(2L))).thenReturn(List.of(secondAfterRace));
+
+        List<BookingApprovalResultDto> results = bookingService.approveBookings(List.of(1L, 2L), 1L, true);
+
+        assertThat(results.get(0).getError()).isNull();
+        assertThat(results.get(1).getError()).isEqualTo("Бронирование уже обработано");
+        assertThat(results.get(1).getStatus()).isEqualTo(BookingStatus.APPROVED);
+        verify(bookingMetrics, times(1)).transition(BookingStatus.WAITING, BookingStatus.APPROVED);
+    }
+
+    @Test
+    void approveBookings_withEmptyIds_shouldThrowValidationException() {
+        assertThatThrownBy(() -> bookingService.approveBookings(List.of(), 1L, true))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Список бронирований не может быть пустым");
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void importBookings_withMissingDates_shouldThrowValidationException() {
+        List<BookingImportDto> bookings = List.of(new BookingImportDto(null, LocalDateTime.now(), 1L, 2L, null));
+
+        assertThatThrownBy(() -> bookingService.importBookings(bookings, 1L))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Даты начала и окончания бронирования обязательны");
+        verifyNoInteractions(itemRepository, bookingRepository);
+    }
+
+    @Test
+    void importBookings_withTooManyBookings_shouldThrowValidationException() {
+        BookingImportDto booking = new BookingImportDto(LocalDateTime.now().minusDays(2),
+                LocalDateTime.now().minusDays(1), 1L, 2L, null);
+
+        assertThatThrownBy(() -> bookingService.importBookings(Collections.nCopies(1001, booking), 1L))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("За один запрос можно импортировать не более 1000 бронирований");
+    }
+
+    private BookingApprovalView approvalView(Long id, BookingStatus status) {
+        BookingApprovalView view = mock(BookingApprovalView.class);
+        when(view.getId()).thenReturn(id);
+        lenient().when(view.getItemId()).thenReturn(1L);
+        when(view.getOwnerId()).thenReturn(1L);
+        when(view.getStatus()).thenReturn(status);
+        return view;
+    }
 }
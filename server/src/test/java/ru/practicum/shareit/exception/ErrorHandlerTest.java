@@ -49,6 +49,14 @@ class ErrorHandlerTest {
         assertThat(response.getError()).isEqualTo("Validation error");
     }
 
+    @Test
+    void handleServiceValidationException_shouldReturn400() {
+        ValidationException ex = new ValidationException("Validation error");
+        ErrorResponse response = errorHandler.handleServiceValidationException(ex);
+
+        assertThat(response.getError()).isEqualTo("Validation error");
+    }
+
     @Test
     void handleAccessDeniedException_shouldReturn403() {
         AccessDeniedException ex = new AccessDeniedException("Access denied");
@@ -0,0 +1,114 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.InMemoryItemSearchEngine;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryItemSearchEngineTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @InjectMocks
+    private InMemoryItemSearchEngine engine;
+
+    private final User owner = new User(1L, "Owner", "owner@email.com");
+    private final Item drill = new Item(1L, "Дрель", "Мощная дрель с аккумулятором", true, owner, null);
+    private final Item saw = new Item(2L, "Пила", "Ручная пила по дереву", true, owner, null);
+    private final Item screwdriver = new Item(3L, "Отвертка", "Аккумуляторная отвертка", true, owner, null);
+
+    @Test
+    void search_shouldMatchSubstringIgnoringCase() {
+        indexAndStore(drill, saw, screwdriver);
+
+        assertThat(ids(engine.search("АККУМУЛЯТОР", PageRequest.of(0, 10)))).containsExactly(1L, 3L);
+        assertThat(ids(engine.search("рель", PageRequest.of(0, 10)))).containsExactly(1L);
+        assertThat(ids(engine.search("пи", PageRequest.of(0, 10)))).containsExactly(2L);
+    }
+
+    @Test
+    void search_shouldRequireWholeQueryInsideOneField() {
+        indexAndStore(drill, saw);
+
+        assertThat(engine.search("дрель пила", PageRequest.of(0, 10))).isEmpty();
+        verify(itemRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void search_shouldSkipUnavailableItems() {
+        screwdriver.setAvailable(false);
+        indexAndStore(drill, screwdriver);
+
+        assertThat(ids(engine.search("аккумулятор", PageRequest.of(0, 10)))).containsExactly(1L);
+    }
+
+    @Test
+    void index_afterUpdate_shouldReplaceOldTokens() {
+        indexAndStore(drill);
+
+        drill.setName("Перфоратор");
+        drill.setDescription("Ударный перфоратор");
+        engine.index(drill);
+
+        assertThat(engine.search("дрель", PageRequest.of(0, 10))).isEmpty();
+        assertThat(ids(engine.search("удар", PageRequest.of(0, 10)))).containsExactly(1L);
+    }
+
+    @Test
+    void search_withPagination_shouldApplyOffset() {
+        indexAndStore(drill, saw, screwdriver);
+
+        assertThat(ids(engine.search("а", PageRequest.of(1, 2)))).containsExactly(3L);
+    }
+
+    @Test
+    void warmUp_shouldIndexStoredItems() {
+        when(itemRepository.findAll()).thenReturn(List.of(drill, saw));
+        stub(drill, saw);
+
+        engine.warmUp();
+
+        assertThat(ids(engine.search("дерев", PageRequest.of(0, 10)))).containsExactly(2L);
+    }
+
+    private void indexAndStore(Item... items) {
+        for (Item item : items) {
+            engine.index(item);
+        }
+        stub(items);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stub(Item... items) {
+        Map<Long, Item> byId = List.of(items).stream().collect(Collectors.toMap(Item::getId, Function.identity()));
+        lenient().when(itemRepository.findAllById(any())).thenAnswer(invocation ->
+                ((Collection<Long>) invocation.getArgument(0)).stream()
+                        .map(byId::get)
+                        .collect(Collectors.toList()));
+    }
+
+    private List<Long> ids(List<Item> items) {
+        return items.stream().map(Item::getId).collect(Collectors.toList());
+    }
+}
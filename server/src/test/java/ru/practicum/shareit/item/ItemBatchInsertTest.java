@@ -0,0 +1,59 @@
+package ru.practicum.shareit.item;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.search.JpaItemSearchEngine;
+import ru.practicum.shareit.item.service.ItemDetailCache;
+import ru.practicum.shareit.item.service.ItemServiceIml;
+import ru.practicum.shareit.item.service.NearestBookingCache;
+import ru.practicum.shareit.item.service.OwnerItemReadModel;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "shareit.search.engine=jpa"})
+@Import({ItemServiceIml.class, JpaItemSearchEngine.class, ItemDetailCache.class, NearestBookingCache.class,
+        UserExistenceChecker.class, OwnerItemReadModel.class})
+class ItemBatchInsertTest {
+    private static final int ITEMS = 120;
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ItemServiceIml itemService;
+
+    @Test
+    void createItems_shouldInsertInJdbcBatches() {
+        User owner = em.persistAndFlush(new User(null, "Owner", "owner@email.com"));
+        List<ItemDto> itemDtos = IntStream.range(0, ITEMS)
+                .mapToObj(i -> new ItemDto(null, "Вещь " + i, "Описание " + i, true, null))
+                .collect(Collectors.toList());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<ItemDto> result = itemService.createItems(itemDtos, owner.getId());
+        em.flush();
+
+        assertThat(result).hasSize(ITEMS);
+        assertThat(result).extracting(ItemDto::getId).doesNotContainNull().doesNotHaveDuplicates();
+        // every item also gets its owner_item_summaries row, batched the same way
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2L * ITEMS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+    }
+}
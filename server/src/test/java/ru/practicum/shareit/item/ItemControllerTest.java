@@ -14,6 +14,7 @@ import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.controller.ItemController;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
+import ru.practicum.shareit.item.dto.OwnerItemSummaryDto;
 import ru.practicum.shareit.item.service.ItemService;
 
 import java.time.LocalDateTime;
@@ -124,7 +125,7 @@ class ItemControllerTest {
     void getAllItemsByOwner_shouldReturnItems() throws Exception {
         ItemWithBookingsDto itemDto = new ItemWithBookingsDto(1L, "Дрель", "Описание",
                 true, null, null, null, List.of());
-        when(itemService.getAllItemsByOwner(eq(1L), eq(0), eq(10))).thenReturn(List.of(itemDto));
+        when(itemService.getAllItemsByOwner(eq(1L), isNull(), eq(0), eq(10))).thenReturn(List.of(itemDto));
 
         mockMvc.perform(get("/items")
                         .header("X-Sharer-User-Id", 1L)
@@ -135,6 +136,21 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$[0].name").value("Дрель"));
     }
 
+    @Test
+    void getOwnerDashboard_shouldReturnSummaries() throws Exception {
+        OwnerItemSummaryDto summary = new OwnerItemSummaryDto(1L, "Дрель", true,
+                null, new ItemWithBookingsDto.BookingInfoDto(5L, 2L), 3, 1);
+        when(itemService.getOwnerDashboard(eq(1L), isNull(), eq(10))).thenReturn(List.of(summary));
+
+        mockMvc.perform(get("/items/dashboard")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(jsonPath("$[0].nextBooking.id").value(5L))
+                .andExpect(jsonPath("$[0].commentCount").value(3))
+                .andExpect(jsonPath("$[0].pendingApprovalCount").value(1));
+    }
+
     @Test
     void searchItems_shouldReturnItems() throws Exception {
         ItemDto itemDto = new ItemDto(1L, "Дрель", "Описание", true, null);
@@ -196,7 +212,7 @@ class ItemControllerTest {
                         .header("X-Sharer-User-Id", 2L)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"text\":\"Комментарий\"}"))
-                .andExpect(status().isInternalServerError())
+                .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.error").exists());
     }
 
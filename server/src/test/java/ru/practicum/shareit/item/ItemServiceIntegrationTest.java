@@ -9,23 +9,31 @@ import org.springframework.context.annotation.Import;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.comment.model.Comment;
 import ru.practicum.shareit.comment.repository.CommentRepository;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
+import ru.practicum.shareit.item.dto.OwnerItemSummaryDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.JpaItemSearchEngine;
+import ru.practicum.shareit.item.service.ItemDetailCache;
 import ru.practicum.shareit.item.service.ItemServiceIml;
+import ru.practicum.shareit.item.service.NearestBookingCache;
+import ru.practicum.shareit.item.service.OwnerItemReadModel;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
-@Import(ItemServiceIml.class)
+@DataJpaTest(properties = "shareit.search.engine=jpa")
+@Import({ItemServiceIml.class, JpaItemSearchEngine.class, ItemDetailCache.class, NearestBookingCache.class,
+        UserExistenceChecker.class, OwnerItemReadModel.class})
 class ItemServiceIntegrationTest {
 
     @Autowired private TestEntityManager em;
@@ -88,6 +96,55 @@ class ItemServiceIntegrationTest {
         assertThat(result.getComments().get(0).getText()).isEqualTo("Отличная дрель!");
     }
 
+    @Test
+    void getAllItemsByOwner_shouldPickNearestApprovedBookingsPerItem() {
+        Item secondItem = itemRepository.save(new Item(null, "Пила", "Ручная пила", true, owner, null));
+        LocalDateTime now = LocalDateTime.now();
+        Booking olderPast = bookingRepository.save(new Booking(null, now.minusDays(10), now.minusDays(9),
+                item, booker, BookingStatus.APPROVED));
+        Booking latestPast = bookingRepository.save(new Booking(null, now.minusDays(3), now.minusDays(2),
+                item, booker, BookingStatus.APPROVED));
+        Booking nearestFuture = bookingRepository.save(new Booking(null, now.plusDays(1), now.plusDays(2),
+                item, booker, BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(null, now.plusDays(5), now.plusDays(6),
+                item, booker, BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(null, now.minusHours(1), now.plusHours(1),
+                item, booker, BookingStatus.REJECTED));
+        Booking secondItemFuture = bookingRepository.save(new Booking(null, now.plusDays(3), now.plusDays(4),
+                secondItem, booker, BookingStatus.APPROVED));
+
+        List<ItemWithBookingsDto> result = itemService.getAllItemsByOwner(owner.getId(), null, 0, 10);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getLastBooking().getId()).isEqualTo(latestPast.getId());
+        assertThat(result.get(0).getLastBooking().getId()).isNotEqualTo(olderPast.getId());
+        assertThat(result.get(0).getLastBooking().getBookerId()).isEqualTo(booker.getId());
+        assertThat(result.get(0).getNextBooking().getId()).isEqualTo(nearestFuture.getId());
+        assertThat(result.get(1).getLastBooking()).isNull();
+        assertThat(result.get(1).getNextBooking().getId()).isEqualTo(secondItemFuture.getId());
+    }
+
+    @Test
+    void getOwnerDashboard_shouldReflectCommentsAddedThroughService() {
+        ItemDto created = itemService.createItem(new ItemDto(null, "Отвертка", "Крестовая отвертка", true, null),
+                owner.getId());
+        Item screwdriver = itemRepository.findById(created.getId()).orElseThrow();
+        Booking past = bookingRepository.save(new Booking(null, LocalDateTime.now().minusDays(2),
+                LocalDateTime.now().minusDays(1), screwdriver, booker, BookingStatus.APPROVED));
+        itemService.addComment(screwdriver.getId(), booker.getId(),
+                new CommentDto(null, "Удобная", null, null));
+        em.flush();
+        em.clear();
+
+        List<OwnerItemSummaryDto> result = itemService.getOwnerDashboard(owner.getId(), null, 10);
+
+        assertThat(result).extracting(OwnerItemSummaryDto::getId).containsExactly(item.getId(), created.getId());
+        assertThat(result.get(0).getCommentCount()).isZero();
+        assertThat(result.get(1).getCommentCount()).isEqualTo(1);
+        assertThat(result.get(1).getLastBooking().getId()).isEqualTo(past.getId());
+        assertThat(result.get(1).getPendingApprovalCount()).isZero();
+    }
+
     @Test
     void searchItems_shouldReturnAvailableItemsByText() {
         List<ItemDto> result = itemService.searchItems("дрель", 0, 10);
@@ -103,6 +160,26 @@ class ItemServiceIntegrationTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void getItemByIdWithBookings_shouldHideBookingsFromNonOwnerAndRefreshAfterUpdate() {
+        bookingRepository.save(new Booking(null, LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1),
+                item, booker, BookingStatus.APPROVED));
+
+        ItemWithBookingsDto ownerView = itemService.getItemByIdWithBookings(item.getId(), owner.getId());
+        ItemWithBookingsDto publicView = itemService.getItemByIdWithBookings(item.getId(), booker.getId());
+
+        assertThat(ownerView.getLastBooking()).isNotNull();
+        assertThat(publicView.getLastBooking()).isNull();
+        assertThat(itemService.getItemByIdWithBookings(item.getId(), booker.getId()))
+                .isNotSameAs(publicView)
+                .isEqualTo(publicView);
+
+        itemService.updateItem(item.getId(), new ItemDto(null, "Перфоратор", null, null, null), owner.getId());
+
+        assertThat(itemService.getItemByIdWithBookings(item.getId(), booker.getId()).getName())
+                .isEqualTo("Перфоратор");
+    }
+
     @Test
     void updateItem_shouldUpdateOnlyProvidedFields() {
         ItemDto updateDto = new ItemDto(null, "Новое имя", null, null, null);
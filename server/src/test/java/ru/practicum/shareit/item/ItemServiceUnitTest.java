@@ -1,23 +1,39 @@
 package ru.practicum.shareit.item;
 
+import jakarta.validation.ValidationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.comment.model.Comment;
 import ru.practicum.shareit.comment.repository.CommentRepository;
 import ru.practicum.shareit.exception.AccessDeniedException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
+import ru.practicum.shareit.item.dto.OwnerItemSummaryDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+import ru.practicum.shareit.item.service.ItemDetailCache;
 import ru.practicum.shareit.item.service.ItemServiceIml;
+import ru.practicum.shareit.item.service.NearestBookingCache;
+import ru.practicum.shareit.item.service.NearestBookingCache.NearestBookings;
+import ru.practicum.shareit.item.service.OwnerItemReadModel;
+import ru.practicum.shareit.item.service.OwnerItemReadModel.OwnerItem;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,9 +49,19 @@ class ItemServiceUnitTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private UserExistenceChecker userExistenceChecker;
+    @Mock
     private BookingRepository bookingRepository;
     @Mock
     private CommentRepository commentRepository;
+    @Mock
+    private ItemSearchEngine itemSearchEngine;
+    @Spy
+    private ItemDetailCache itemDetailCache = new ItemDetailCache(100, Duration.ofMinutes(1));
+    @Spy
+    private NearestBookingCache nearestBookingCache = new NearestBookingCache(100);
+    @Mock
+    private OwnerItemReadModel ownerItemReadModel;
 
     @InjectMocks
     private ItemServiceIml itemService;
@@ -60,7 +86,8 @@ class ItemServiceUnitTest {
     @Test
     void createItem_withNonExistentUser_shouldThrowNotFoundException() {
         ItemDto itemDto = new ItemDto(null, "Дрель", "Описание", true, null);
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(userExistenceChecker.requireExisting(999L))
+                .thenThrow(new NotFoundException("Пользователь не найден"));
 
         assertThatThrownBy(() -> itemService.createItem(itemDto, 999L))
                 .isInstanceOf(NotFoundException.class)
@@ -91,26 +118,95 @@ class ItemServiceUnitTest {
         assertThat(result.getAvailable()).isEqualTo(false);
     }
 
+    @Test
+    void createItems_withMissingAvailable_shouldThrowValidationException() {
+        List<ItemDto> items = List.of(new ItemDto(null, "Дрель", "Мощная дрель", null, null));
+
+        assertThatThrownBy(() -> itemService.createItems(items, 1L))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Статус доступности не может быть null");
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void createItems_withTooManyItems_shouldThrowValidationException() {
+        ItemDto item = new ItemDto(null, "Дрель", "Мощная дрель", true, null);
+
+        assertThatThrownBy(() -> itemService.createItems(Collections.nCopies(1001, item), 1L))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("За один запрос можно создать не более 1000 вещей");
+        verifyNoInteractions(itemRepository);
+    }
+
     @Test
     void getAllItemsByOwner_withPagination_shouldReturnPaginatedResults() {
         User owner = new User(1L, "Owner", "owner@email.com");
-        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
 
         Item item1 = new Item(1L, "Item1", "Desc1", true, owner, null);
         Item item2 = new Item(2L, "Item2", "Desc2", true, owner, null);
-        when(itemRepository.findByOwnerIdOrderById(eq(1L), any()))
-                .thenReturn(List.of(item1, item2));
-
-        when(bookingRepository.findLastBookingsForItems(any(), any(), any()))
-                .thenReturn(List.of());
-        when(bookingRepository.findNextBookingsForItems(any(), any(), any()))
-                .thenReturn(List.of());
-        when(commentRepository.findByItemIdInOrderByCreatedDesc(any()))
-                .thenReturn(List.of());
+        when(ownerItemReadModel.getPage(1L, null, 1)).thenReturn(List.of(
+                new OwnerItem(item1, NearestBookings.NONE, 0, 0),
+                new OwnerItem(item2, NearestBookings.NONE, 0, 0)));
 
-        List<ItemWithBookingsDto> result = itemService.getAllItemsByOwner(1L, 0, 1);
+        List<ItemWithBookingsDto> result = itemService.getAllItemsByOwner(1L, null, 0, 1);
 
         assertThat(result).hasSize(2);
+        assertThat(result.get(0).getComments()).isEmpty();
+        verify(commentRepository, never()).findByItemIdInOrderByCreatedDesc(any());
+    }
+
+    @Test
+    void getAllItemsByOwner_withLegacyOffset_shouldResolveKeysetCursor() {
+        Item item = new Item(8L, "Item8", "Desc8", true, new User(1L, "Owner", "owner@email.com"), null);
+        when(itemRepository.findIdsByOwnerId(1L, PageRequest.of(1, 1))).thenReturn(List.of(7L));
+        when(ownerItemReadModel.getPage(1L, 7L, 10)).thenReturn(List.of(
+                new OwnerItem(item, NearestBookings.NONE, 0, 0)));
+
+        List<ItemWithBookingsDto> result = itemService.getAllItemsByOwner(1L, null, 2, 10);
+
+        assertThat(result).extracting(ItemWithBookingsDto::getId).containsExactly(8L);
+    }
+
+    @Test
+    void getAllItemsByOwner_withOffsetPastLastItem_shouldReturnEmptyList() {
+        when(itemRepository.findIdsByOwnerId(1L, PageRequest.of(9, 1))).thenReturn(List.of());
+
+        assertThat(itemService.getAllItemsByOwner(1L, null, 10, 10)).isEmpty();
+        verifyNoInteractions(ownerItemReadModel);
+    }
+
+    @Test
+    void getAllItemsByOwner_shouldLoadCommentsOnlyForCommentedItems() {
+        User owner = new User(1L, "Owner", "owner@email.com");
+        User author = new User(2L, "Author", "author@email.com");
+        Item item1 = new Item(1L, "Item1", "Desc1", true, owner, null);
+        Item item2 = new Item(2L, "Item2", "Desc2", true, owner, null);
+        ItemWithBookingsDto.BookingInfoDto last = new ItemWithBookingsDto.BookingInfoDto(5L, 2L);
+        when(ownerItemReadModel.getPage(1L, null, 10)).thenReturn(List.of(
+                new OwnerItem(item1, new NearestBookings(last, null, null), 1, 0),
+                new OwnerItem(item2, NearestBookings.NONE, 0, 3)));
+        when(commentRepository.findByItemIdInOrderByCreatedDesc(List.of(1L))).thenReturn(List.of(
+                new Comment(1L, "Отлично", item1, author, LocalDateTime.now())));
+
+        List<ItemWithBookingsDto> result = itemService.getAllItemsByOwner(1L, null, 0, 10);
+
+        assertThat(result.get(0).getLastBooking()).isEqualTo(last);
+        assertThat(result.get(0).getComments()).hasSize(1);
+        assertThat(result.get(1).getComments()).isEmpty();
+    }
+
+    @Test
+    void getOwnerDashboard_shouldMapCounts() {
+        Item item = new Item(1L, "Item1", "Desc1", true, new User(1L, "Owner", "owner@email.com"), null);
+        when(ownerItemReadModel.getPage(1L, null, 10)).thenReturn(List.of(
+                new OwnerItem(item, NearestBookings.NONE, 4, 2)));
+
+        List<OwnerItemSummaryDto> result = itemService.getOwnerDashboard(1L, null, 10);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getName()).isEqualTo("Item1");
+        assertThat(result.get(0).getCommentCount()).isEqualTo(4);
+        assertThat(result.get(0).getPendingApprovalCount()).isEqualTo(2);
     }
 
     @Test
@@ -120,12 +216,7 @@ class ItemServiceUnitTest {
 
         when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
 
-        lenient().when(bookingRepository.findLastBookingsForItems(any(List.class), any(), any()))
-                .thenReturn(List.of());
-        lenient().when(bookingRepository.findNextBookingsForItems(any(List.class), any(), any()))
-                .thenReturn(List.of());
-        lenient().when(commentRepository.findByItemIdInOrderByCreatedDesc(any(List.class)))
-                .thenReturn(List.of());
+        when(ownerItemReadModel.loadNearestBookings(List.of(1L))).thenReturn(Map.of(1L, NearestBookings.NONE));
 
         ItemWithBookingsDto result = itemService.getItemByIdWithBookings(1L, 1L);
 
@@ -137,12 +228,36 @@ class ItemServiceUnitTest {
         assertThat(result.getComments()).isEmpty();
     }
 
+    @Test
+    void getItemByIdWithBookings_forNonOwner_shouldNotExposeCachedView() {
+        User owner = new User(1L, "Owner", "owner@email.com");
+        User author = new User(2L, "Author", "author@email.com");
+        Item item = new Item(1L, "Дрель", "Описание", true, owner, null);
+        Comment comment = new Comment(1L, "Отличная дрель", item, author, LocalDateTime.now());
+
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(commentRepository.findByItemIdOrderByCreatedDesc(1L)).thenReturn(List.of(comment));
+
+        ItemWithBookingsDto first = itemService.getItemByIdWithBookings(1L, 2L);
+        first.setName("Изменено");
+        first.getComments().get(0).setText("Изменено");
+        first.setComments(List.of());
+
+        ItemWithBookingsDto second = itemService.getItemByIdWithBookings(1L, 2L);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo("Дрель");
+        assertThat(second.getComments()).hasSize(1);
+        assertThat(second.getComments().get(0).getText()).isEqualTo("Отличная дрель");
+        verify(itemRepository, times(1)).findById(1L);
+    }
+
     @Test
     void searchItems_withPagination_shouldReturnPaginatedResults() {
         User owner = new User(1L, "Owner", "owner@email.com");
         Item item = new Item(1L, "Дрель", "Описание", true, owner, null);
 
-        when(itemRepository.searchAvailableItems(eq("дрель"), any()))
+        when(itemSearchEngine.search(eq("дрель"), any()))
                 .thenReturn(List.of(item));
 
         List<ItemDto> result = itemService.searchItems("дрель", 0, 5);
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.dto.ItemWithBookingsDto.BookingInfoDto;
+import ru.practicum.shareit.item.service.NearestBookingCache;
+import ru.practicum.shareit.item.service.NearestBookingCache.NearestBookings;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearestBookingCacheTest {
+
+    private final NearestBookingCache cache = new NearestBookingCache(100);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void getAll_shouldLoadOnlyMissingItems() {
+        cache.getAll(List.of(1L), loader(null));
+        cache.getAll(List.of(1L, 2L), loader(null));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.getAll(List.of(1L, 2L), loader(null))).containsOnlyKeys(1L, 2L);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getAll_shouldExpireWhenNextBookingStarts() throws InterruptedException {
+        LocalDateTime nextStart = LocalDateTime.now().plusNanos(500_000_000);
+        cache.getAll(List.of(1L), loader(nextStart));
+        cache.getAll(List.of(1L), loader(nextStart));
+        assertThat(loads).hasValue(1);
+
+        Thread.sleep(700);
+        cache.getAll(List.of(1L), loader(null));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getAll_withNextBookingCenturiesAhead_shouldCacheWithoutOverflow() {
+        LocalDateTime nextStart = LocalDateTime.of(9000, 1, 1, 12, 0);
+
+        cache.getAll(List.of(1L), loader(nextStart));
+        cache.getAll(List.of(1L), loader(nextStart));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evict_shouldForceReload() {
+        cache.getAll(List.of(1L), loader(null));
+
+        cache.evict(1L);
+        cache.getAll(List.of(1L), loader(null));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private Function<Collection<Long>, Map<Long, NearestBookings>> loader(LocalDateTime nextStart) {
+        return itemIds -> {
+            loads.incrementAndGet();
+            return itemIds.stream().collect(Collectors.toMap(Function.identity(), id -> nextStart == null
+                    ? NearestBookings.NONE
+                    : new NearestBookings(null, new BookingInfoDto(id, 2L), nextStart)));
+        };
+    }
+}
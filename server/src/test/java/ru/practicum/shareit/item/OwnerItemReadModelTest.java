@@ -0,0 +1,141 @@
+package ru.practicum.shareit.item;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.comment.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.OwnerItemSummary;
+import ru.practicum.shareit.item.service.NearestBookingCache;
+import ru.practicum.shareit.item.service.OwnerItemReadModel;
+import ru.practicum.shareit.item.service.OwnerItemReadModel.OwnerItem;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({OwnerItemReadModel.class, NearestBookingCache.class})
+class OwnerItemReadModelTest {
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private OwnerItemReadModel readModel;
+
+    private User owner;
+    private User booker;
+    private Item item;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        owner = em.persist(new User(null, "Owner", "owner@email.com"));
+        booker = em.persist(new User(null, "Booker", "booker@email.com"));
+        item = em.persist(new Item(null, "Дрель", "Мощная дрель", true, owner, null));
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @Test
+    void pendingChanged_shouldAdjustCounterInPlaceWithoutGoingNegative() {
+        readModel.itemsCreated(List.of(item));
+        em.flush();
+
+        readModel.pendingChanged(Map.of(item.getId(), 2L));
+        readModel.pendingChanged(Map.of(item.getId(), -1L));
+        readModel.pendingChanged(Map.of(item.getId(), -5L));
+        em.clear();
+
+        assertThat(em.find(OwnerItemSummary.class, item.getId()).getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void commentAdded_shouldIncrementCommentCount() {
+        readModel.itemsCreated(List.of(item));
+        em.flush();
+
+        readModel.commentAdded(item.getId());
+        em.clear();
+
+        assertThat(em.find(OwnerItemSummary.class, item.getId()).getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void recount_shouldRecomputeCountersFromBookingAndCommentTables() {
+        em.persist(new OwnerItemSummary(item.getId(), 5, 5));
+        em.persist(new Booking(null, now.plusDays(5), now.plusDays(6), item, booker, BookingStatus.WAITING));
+        em.persist(new Comment(null, "Отличная дрель!", item, booker, now));
+
+        readModel.recount(List.of(item.getId()));
+        em.clear();
+
+        OwnerItemSummary summary = em.find(OwnerItemSummary.class, item.getId());
+        assertThat(summary.getCommentCount()).isEqualTo(1);
+        assertThat(summary.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getPage_withSummaries_shouldReadNearestBookingsOnceAndThenUseSingleStatement() {
+        Item second = em.persist(new Item(null, "Пила", "Ручная пила", true, owner, null));
+        Booking past = em.persist(new Booking(null, now.minusDays(3), now.minusDays(2),
+                second, booker, BookingStatus.APPROVED));
+        Booking future = em.persist(new Booking(null, now.plusDays(1), now.plusDays(2),
+                second, booker, BookingStatus.APPROVED));
+        readModel.itemsCreated(List.of(item, second));
+        em.flush();
+        em.clear();
+        readModel.getPage(owner.getId(), null, 10);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<OwnerItem> result = readModel.getPage(owner.getId(), null, 10);
+
+        assertThat(result).extracting(ownerItem -> ownerItem.item().getId())
+                .containsExactly(item.getId(), second.getId());
+        assertThat(result.get(0).nearest().next()).isNull();
+        assertThat(result.get(1).nearest().last().getId()).isEqualTo(past.getId());
+        assertThat(result.get(1).nearest().next().getId()).isEqualTo(future.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getPage_withAfterId_shouldReturnItemsAfterCursor() {
+        Item second = em.persist(new Item(null, "Пила", "Ручная пила", true, owner, null));
+        Item third = em.persist(new Item(null, "Молоток", "Тяжелый молоток", true, owner, null));
+        readModel.itemsCreated(List.of(item, second, third));
+        em.flush();
+        em.clear();
+
+        List<OwnerItem> result = readModel.getPage(owner.getId(), item.getId(), 1);
+
+        assertThat(result).extracting(ownerItem -> ownerItem.item().getId()).containsExactly(second.getId());
+    }
+
+    @Test
+    void getPage_withoutSummary_shouldCountFromBookingAndCommentTables() {
+        em.persist(new Booking(null, now.plusDays(1), now.plusDays(2), item, booker, BookingStatus.WAITING));
+        em.persist(new Comment(null, "Отличная дрель!", item, booker, now));
+        em.flush();
+        em.clear();
+
+        List<OwnerItem> result = readModel.getPage(owner.getId(), null, 10);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).commentCount()).isEqualTo(1);
+        assertThat(result.get(0).pendingCount()).isEqualTo(1);
+    }
+}
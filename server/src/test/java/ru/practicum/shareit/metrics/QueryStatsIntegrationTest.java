@@ -0,0 +1,47 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryStatsIntegrationTest {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void request_shouldExposeStatementAndEntityLoadCounts() throws Exception {
+        MvcResult created = mvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Stats\",\"email\":\"stats@email.com\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String id = created.getResponse().getContentAsString().replaceAll(".*\"id\":(\\d+).*", "$1");
+
+        mvc.perform(get("/users/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryStatsHeadersAdvice.STATEMENTS_HEADER, "1"))
+                .andExpect(header().string(QueryStatsHeadersAdvice.ENTITY_LOADS_HEADER, "1"))
+                .andExpect(header().exists(QueryStatsHeadersAdvice.JDBC_TIME_HEADER));
+
+        assertThat(meterRegistry.get("shareit.http.statements")
+                .tags("method", "GET", "uri", "/users/{userId}")
+                .summary()
+                .totalAmount()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceMetricsAspectTest {
+
+    @Mock
+    private UserService userService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UserService proxy;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(userService);
+        factory.addInterface(UserService.class);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    void successfulCall_shouldBeTimedWithSuccessOutcome() {
+        when(userService.getAllUsers()).thenReturn(List.of(new UserDto(1L, "User", "user@email.com")));
+
+        proxy.getAllUsers();
+
+        Timer timer = meterRegistry.get(ServiceMetricsAspect.TIMER_NAME)
+                .tags("service", "UserService", "method", "getAllUsers", "outcome", "success")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedCall_shouldBeTimedWithExceptionOutcome() {
+        when(userService.getUserById(1L)).thenThrow(new NotFoundException("Пользователь не найден"));
+
+        assertThatThrownBy(() -> proxy.getUserById(1L)).isInstanceOf(NotFoundException.class);
+
+        Timer timer = meterRegistry.get(ServiceMetricsAspect.TIMER_NAME)
+                .tags("method", "getUserById", "outcome", "NotFound")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void outcome_shouldMapDomainExceptions() {
+        assertThat(ServiceMetricsAspect.outcome(new ru.practicum.shareit.exception.ValidationException("x")))
+                .isEqualTo("Validation");
+        assertThat(ServiceMetricsAspect.outcome(new jakarta.validation.ValidationException("x")))
+                .isEqualTo("Validation");
+        assertThat(ServiceMetricsAspect.outcome(new IllegalArgumentException("x"))).isEqualTo("Validation");
+        assertThat(ServiceMetricsAspect.outcome(new IllegalStateException("x"))).isEqualTo("Error");
+    }
+}
@@ -13,6 +13,7 @@ import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.request.service.ItemRequestServiceIml;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,7 +21,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import(ItemRequestServiceIml.class)
+@Import({ItemRequestServiceIml.class, UserExistenceChecker.class})
 class ItemRequestServiceIntegrationTest {
 
     @Autowired private ItemRequestServiceIml itemRequestService;
@@ -13,6 +13,7 @@ import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.request.service.ItemRequestServiceIml;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -27,6 +28,7 @@ class ItemRequestServiceUnitTest {
 
     @Mock private ItemRequestRepository itemRequestRepository;
     @Mock private UserRepository userRepository;
+    @Mock private UserExistenceChecker userExistenceChecker;
     @Mock private ItemRepository itemRepository;
 
     @InjectMocks private ItemRequestServiceIml itemRequestService;
@@ -35,7 +37,8 @@ class ItemRequestServiceUnitTest {
     void createRequest_withNonExistentUser_shouldThrowNotFoundException() {
         ItemRequestDto requestDto = new ItemRequestDto(null, "Нужна дрель", null, null, null);
 
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(userExistenceChecker.requireExisting(999L))
+                .thenThrow(new NotFoundException("Пользователь не найден"));
 
         assertThatThrownBy(() -> itemRequestService.createRequest(requestDto, 999L))
                 .isInstanceOf(NotFoundException.class)
@@ -49,7 +52,8 @@ class ItemRequestServiceUnitTest {
                 null, null, null);
         ItemRequest savedRequest = new ItemRequest(1L, "Нужна дрель", requestor, LocalDateTime.now());
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(requestor));
+        when(userExistenceChecker.requireExisting(1L)).thenReturn(1L);
+        when(userRepository.getReferenceById(1L)).thenReturn(requestor);
         when(itemRequestRepository.save(any(ItemRequest.class))).thenReturn(savedRequest);
 
         ItemRequestDto result = itemRequestService.createRequest(requestDto, 1L);
@@ -63,7 +67,6 @@ class ItemRequestServiceUnitTest {
     @Test
     void getRequestById_withNonExistentRequest_shouldThrowNotFoundException() {
         User user = new User(1L, "User", "user@email.com");
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(itemRequestRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> itemRequestService.getRequestById(999L, 1L))
@@ -73,7 +76,8 @@ class ItemRequestServiceUnitTest {
 
     @Test
     void getRequestById_withNonExistentUser_shouldThrowNotFoundException() {
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(userExistenceChecker.requireExisting(999L))
+                .thenThrow(new NotFoundException("Пользователь не найден"));
 
         assertThatThrownBy(() -> itemRequestService.getRequestById(1L, 999L))
                 .isInstanceOf(NotFoundException.class)
@@ -82,7 +86,8 @@ class ItemRequestServiceUnitTest {
 
     @Test
     void getAllRequestsByRequestor_withNonExistentUser_shouldThrowNotFoundException() {
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(userExistenceChecker.requireExisting(999L))
+                .thenThrow(new NotFoundException("Пользователь не найден"));
 
         assertThatThrownBy(() -> itemRequestService.getAllRequestsByRequestor(999L))
                 .isInstanceOf(NotFoundException.class)
@@ -91,7 +96,8 @@ class ItemRequestServiceUnitTest {
 
     @Test
     void getAllRequests_withNonExistentUser_shouldThrowNotFoundException() {
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(userExistenceChecker.requireExisting(999L))
+                .thenThrow(new NotFoundException("Пользователь не найден"));
 
         assertThatThrownBy(() -> itemRequestService.getAllRequests(999L, 0, 10))
                 .isInstanceOf(NotFoundException.class)
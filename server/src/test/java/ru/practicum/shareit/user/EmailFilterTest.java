@@ -0,0 +1,55 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.EmailFilter;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private EmailFilter emailFilter;
+
+    @BeforeEach
+    void setUp() {
+        emailFilter = new EmailFilter(userRepository, 1 << 16);
+    }
+
+    @Test
+    void mightContain_beforeLoad_shouldAssumeEveryEmailTaken() {
+        assertThat(emailFilter.mightContain("free@email.com")).isTrue();
+    }
+
+    @Test
+    void mightContain_afterLoad_shouldKnowExistingEmailsIgnoringCase() {
+        when(userRepository.streamAllEmails()).thenReturn(Stream.of("john@email.com", "jane@email.com"));
+
+        emailFilter.load();
+
+        assertThat(emailFilter.mightContain("john@email.com")).isTrue();
+        assertThat(emailFilter.mightContain(" JANE@email.com ")).isTrue();
+        assertThat(emailFilter.mightContain("free@email.com")).isFalse();
+    }
+
+    @Test
+    void remove_shouldForgetEmailOutsideTransaction() {
+        when(userRepository.streamAllEmails()).thenReturn(Stream.empty());
+        emailFilter.load();
+        emailFilter.add("john@email.com");
+
+        emailFilter.remove("john@email.com");
+
+        assertThat(emailFilter.mightContain("john@email.com")).isFalse();
+    }
+}
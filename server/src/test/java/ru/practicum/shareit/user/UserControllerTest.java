@@ -7,13 +7,16 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.practicum.shareit.user.controller.UserController;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -68,4 +71,37 @@ class UserControllerTest {
         mockMvc.perform(delete("/users/1"))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    void getAllUsers_withSize_shouldUseKeysetPage() throws Exception {
+        when(userService.getAllUsers(eq(5L), eq(2))).thenReturn(List.of(new UserDto(6L, "Jane Doe", "jane@email.com")));
+
+        mockMvc.perform(get("/users")
+                        .param("afterId", "5")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(6L));
+    }
+
+    @Test
+    void exportUsers_shouldStreamNdjsonLines() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<UserDto> consumer = invocation.getArgument(0);
+            consumer.accept(new UserDto(1L, "John Doe", "john@email.com"));
+            consumer.accept(new UserDto(2L, "Jane Doe", "jane@email.com"));
+            return null;
+        }).when(userService).exportUsers(any());
+
+        MvcResult result = mockMvc.perform(get("/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(
+                        objectMapper.writeValueAsString(new UserDto(1L, "John Doe", "john@email.com")) + "\n"
+                                + objectMapper.writeValueAsString(new UserDto(2L, "Jane Doe", "jane@email.com"))
+                                + "\n"));
+    }
 }
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserExistenceCheckerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    void requireExisting_shouldHitDatabaseOnlyOnceForKnownUser() {
+        UserExistenceChecker checker = new UserExistenceChecker(userRepository, 100, Duration.ofMinutes(1));
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        assertThat(checker.requireExisting(1L)).isEqualTo(1L);
+        assertThat(checker.requireExisting(1L)).isEqualTo(1L);
+
+        verify(userRepository, times(1)).existsById(1L);
+    }
+
+    @Test
+    void requireExisting_shouldNotRememberMissingUser() {
+        UserExistenceChecker checker = new UserExistenceChecker(userRepository, 100, Duration.ofMinutes(1));
+        when(userRepository.existsById(2L)).thenReturn(false, true);
+
+        assertThatThrownBy(() -> checker.requireExisting(2L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("Пользователь не найден");
+        assertThat(checker.requireExisting(2L)).isEqualTo(2L);
+    }
+
+    @Test
+    void evict_shouldForceDatabaseCheck() {
+        UserExistenceChecker checker = new UserExistenceChecker(userRepository, 100, Duration.ofMinutes(1));
+        when(userRepository.existsById(3L)).thenReturn(true, false);
+        checker.requireExisting(3L);
+
+        checker.evict(3L);
+
+        assertThat(checker.exists(3L)).isFalse();
+    }
+
+    @Test
+    void exists_shouldRecheckDatabaseAfterTtl() throws InterruptedException {
+        UserExistenceChecker checker = new UserExistenceChecker(userRepository, 100, Duration.ofMillis(200));
+        when(userRepository.existsById(4L)).thenReturn(true, false);
+        checker.requireExisting(4L);
+
+        Thread.sleep(400);
+
+        assertThat(checker.exists(4L)).isFalse();
+    }
+}
@@ -5,18 +5,38 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.service.BookingIntervalIndex;
+import ru.practicum.shareit.comment.model.Comment;
+import ru.practicum.shareit.exception.EmailAlreadyExistsException;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.OwnerItemSummary;
+import ru.practicum.shareit.item.service.ItemDetailCache;
+import ru.practicum.shareit.item.service.NearestBookingCache;
+import ru.practicum.shareit.item.service.OwnerItemReadModel;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.EmailFilter;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 import ru.practicum.shareit.user.service.UserServiceIml;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
 
 @DataJpaTest
-@Import(UserServiceIml.class)
+@Import({UserServiceIml.class, UserExistenceChecker.class, EmailFilter.class, BookingIntervalIndex.class,
+        OwnerItemReadModel.class, ItemDetailCache.class, NearestBookingCache.class})
 class UserServiceIntegrationTest {
 
     @Autowired
@@ -25,6 +45,8 @@ class UserServiceIntegrationTest {
     private UserServiceIml userService;
     @Autowired
     private UserRepository userRepository;
+    @SpyBean
+    private EmailFilter emailFilter;
 
     private User user;
 
@@ -110,4 +132,80 @@ class UserServiceIntegrationTest {
         User deletedUser = em.find(User.class, user.getId());
         assertThat(deletedUser).isNull();
     }
+
+    @Test
+    void getAllUsers_withKeyset_shouldReturnPagesInIdOrder() {
+        User second = userRepository.save(new User(null, "Second", "second@email.com"));
+        User third = userRepository.save(new User(null, "Third", "third@email.com"));
+
+        List<UserDto> firstPage = userService.getAllUsers(null, 2);
+        List<UserDto> secondPage = userService.getAllUsers(firstPage.get(1).getId(), 2);
+
+        assertThat(firstPage).extracting(UserDto::getId).containsExactly(user.getId(), second.getId());
+        assertThat(secondPage).extracting(UserDto::getId).containsExactly(third.getId());
+    }
+
+    @Test
+    void getAllUsers_withNonPositiveSize_shouldThrowValidationException() {
+        assertThatThrownBy(() -> userService.getAllUsers(null, 0))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void getAllUsers_withTooLargeSize_shouldThrowValidationException() {
+        assertThatThrownBy(() -> userService.getAllUsers(null, 10_000_000))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Параметр size должен быть не больше 1000");
+    }
+
+    @Test
+    void exportUsers_shouldStreamAllUsersInIdOrder() {
+        User second = userRepository.save(new User(null, "Second", "second@email.com"));
+        em.flush();
+        em.clear();
+
+        List<UserDto> exported = new ArrayList<>();
+        userService.exportUsers(exported::add);
+
+        assertThat(exported).extracting(UserDto::getEmail).containsExactly("john@email.com", "second@email.com");
+        assertThat(exported.get(1).getId()).isEqualTo(second.getId());
+    }
+
+    @Test
+    void createUser_withTakenEmail_shouldThrowEmailAlreadyExistsException() {
+        emailFilter.load();
+
+        assertThatThrownBy(() -> userService.createUser(new UserDto(null, "Clone", "john@email.com")))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+    }
+
+    @Test
+    void createUser_whenFilterMissesTakenEmail_shouldFallBackToUniqueConstraint() {
+        doReturn(false).when(emailFilter).mightContain(anyString());
+
+        assertThatThrownBy(() -> userService.createUser(new UserDto(null, "Clone", "john@email.com")))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+    }
+
+    @Test
+    void deleteUser_shouldRecountSummariesOfItemsTheUserBookedOrCommented() {
+        User owner = em.persist(new User(null, "Owner", "owner@email.com"));
+        User other = em.persist(new User(null, "Other", "other@email.com"));
+        Item item = em.persist(new Item(null, "Дрель", "Мощная дрель", true, owner, null));
+        em.persist(new Booking(null, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
+                item, other, BookingStatus.WAITING));
+        em.persist(new Booking(null, LocalDateTime.now().plusDays(3), LocalDateTime.now().plusDays(4),
+                item, user, BookingStatus.WAITING));
+        em.persist(new Comment(null, "Отличная дрель!", item, user, LocalDateTime.now()));
+        em.persist(new OwnerItemSummary(item.getId(), 1, 2));
+        em.flush();
+
+        userService.deleteUser(user.getId());
+        em.flush();
+        em.clear();
+
+        OwnerItemSummary summary = em.find(OwnerItemSummary.class, item.getId());
+        assertThat(summary.getCommentCount()).isZero();
+        assertThat(summary.getPendingCount()).isEqualTo(1);
+    }
 }
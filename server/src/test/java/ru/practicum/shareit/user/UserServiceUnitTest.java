@@ -5,10 +5,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import ru.practicum.shareit.booking.service.BookingIntervalIndex;
+import ru.practicum.shareit.exception.EmailAlreadyExistsException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.service.ItemDetailCache;
+import ru.practicum.shareit.item.service.NearestBookingCache;
+import ru.practicum.shareit.item.service.OwnerItemReadModel;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.EmailFilter;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 import ru.practicum.shareit.user.service.UserServiceIml;
 
 import java.util.List;
@@ -24,6 +32,18 @@ class UserServiceUnitTest {
 
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private UserExistenceChecker userExistenceChecker;
+    @Mock
+    private EmailFilter emailFilter;
+    @Mock
+    private BookingIntervalIndex bookingIntervalIndex;
+    @Mock
+    private OwnerItemReadModel ownerItemReadModel;
+    @Mock
+    private ItemDetailCache itemDetailCache;
+    @Mock
+    private NearestBookingCache nearestBookingCache;
 
     @InjectMocks
     private UserServiceIml userService;
@@ -34,14 +54,14 @@ class UserServiceUnitTest {
         UserDto userDto = new UserDto(null, "John Doe", "john@email.com");
         User savedUser = new User(1L, "John Doe", "john@email.com");
 
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(savedUser);
 
         UserDto result = userService.createUser(userDto);
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getName()).isEqualTo("John Doe");
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -49,7 +69,7 @@ class UserServiceUnitTest {
         UserDto userDto = new UserDto(null, "John Doe", "john@email.com");
         User savedUser = new User(1L, "John Doe", "john@email.com");
 
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(savedUser);
 
         UserDto result = userService.createUser(userDto);
 
@@ -57,7 +77,7 @@ class UserServiceUnitTest {
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getName()).isEqualTo("John Doe");
         assertThat(result.getEmail()).isEqualTo("john@email.com");
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -85,7 +105,7 @@ class UserServiceUnitTest {
         UserDto updateDto = new UserDto(1L, "John Updated", null);
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UserDto result = userService.updateUser(1L, updateDto);
 
@@ -99,7 +119,7 @@ class UserServiceUnitTest {
         UserDto updateDto = new UserDto(1L, "John Updated", "john.updated@email.com");
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UserDto result = userService.updateUser(1L, updateDto);
 
@@ -113,7 +133,7 @@ class UserServiceUnitTest {
         UserDto updateDto = new UserDto(1L, null, "john.updated@email.com");
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UserDto result = userService.updateUser(1L, updateDto);
 
@@ -127,13 +147,13 @@ class UserServiceUnitTest {
         UserDto updateDto = new UserDto(1L, "John Updated", "john.updated@email.com");
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UserDto result = userService.updateUser(1L, updateDto);
 
         assertThat(result.getName()).isEqualTo("John Updated");
         assertThat(result.getEmail()).isEqualTo("john.updated@email.com");
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -151,20 +171,70 @@ class UserServiceUnitTest {
 
     @Test
     void deleteUser_shouldCallRepository() {
-        when(userRepository.existsById(1L)).thenReturn(true);
+        User user = new User(1L, "John Doe", "john@email.com");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
 
         userService.deleteUser(1L);
 
-        verify(userRepository, times(1)).deleteById(1L);
+        verify(userRepository, times(1)).delete(user);
+        verify(bookingIntervalIndex).releaseParticipant(1L);
+        verify(userExistenceChecker).evict(1L);
+        verify(emailFilter).remove("john@email.com");
+    }
+
+    @Test
+    void deleteUser_shouldRecountItemsTheUserBookedOrCommented() {
+        User user = new User(1L, "John Doe", "john@email.com");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(ownerItemReadModel.findItemIdsTouchedBy(1L)).thenReturn(List.of(5L));
+
+        userService.deleteUser(1L);
+
+        verify(ownerItemReadModel).recount(List.of(5L));
+        verify(itemDetailCache).evict(5L);
+        verify(nearestBookingCache).evict(5L);
     }
 
     @Test
     void deleteUser_withNonExistentUser_shouldThrowNotFoundException() {
-        when(userRepository.existsById(999L)).thenReturn(false);
+        when(userRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.deleteUser(999L))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("Пользователь не найден");
     }
-}
 
+    @Test
+    void createUser_whenFilterRulesOutEmail_shouldSkipExistsQuery() {
+        UserDto userDto = new UserDto(null, "John Doe", "john@email.com");
+        when(emailFilter.mightContain("john@email.com")).thenReturn(false);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(new User(1L, "John Doe", "john@email.com"));
+
+        userService.createUser(userDto);
+
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(emailFilter).add("john@email.com");
+    }
+
+    @Test
+    void createUser_whenFilterMayContainTakenEmail_shouldThrowEmailAlreadyExistsException() {
+        UserDto userDto = new UserDto(null, "John Doe", "john@email.com");
+        when(emailFilter.mightContain("john@email.com")).thenReturn(true);
+        when(userRepository.existsByEmail("john@email.com")).thenReturn(true);
+
+        assertThatThrownBy(() -> userService.createUser(userDto))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    void createUser_whenUniqueConstraintFails_shouldThrowEmailAlreadyExistsException() {
+        UserDto userDto = new UserDto(null, "John Doe", "john@email.com");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new RuntimeException("duplicate key violates \"uq_user_email\"")));
+
+        assertThatThrownBy(() -> userService.createUser(userDto))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+        verify(emailFilter, never()).add(anyString());
+    }
+}
@@ -0,0 +1,30 @@
+-- Compares the LIKE search with the full-text search on 1M items.
+-- Run with psql against an empty database after the server has applied the migrations.
+
+INSERT INTO users (name, email)
+SELECT 'owner' || g, 'owner' || g || '@bench.local'
+FROM generate_series(1, 1000) AS g;
+
+INSERT INTO items (name, description, is_available, owner_id)
+SELECT (ARRAY ['Дрель', 'Отвертка', 'Пила', 'Молоток', 'Лестница', 'Палатка'])[1 + g % 6] || ' ' || g,
+       'Описание вещи номер ' || g || ' ' || md5(g::text),
+       g % 10 <> 0,
+       1 + g % 1000
+FROM generate_series(1, 1000000) AS g;
+
+ANALYZE items;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT i.* FROM items i
+WHERE i.is_available = true
+  AND (lower(i.name) LIKE '%' || lower('дрель') || '%' OR lower(i.description) LIKE '%' || lower('дрель') || '%')
+LIMIT 10 OFFSET 0;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT i.* FROM items i
+WHERE i.is_available
+  AND (i.search_vector @@ plainto_tsquery('simple', 'дрель')
+    OR lower(i.name) LIKE '%' || lower('дрель') || '%'
+    OR lower(i.description) LIKE '%' || lower('дрель') || '%')
+ORDER BY ts_rank(i.search_vector, plainto_tsquery('simple', 'дрель')) DESC, i.id
+LIMIT 10 OFFSET 0;